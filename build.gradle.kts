@@ -20,6 +20,7 @@ plugins {
     id("com.github.hierynomus.license") version "0.15.0"
     signing
     jacoco
+    id("me.champeau.jmh") version "0.6.5"
 }
 
 group = "io.github.qingmo"
@@ -36,11 +37,13 @@ dependencies {
     implementation(kotlin("stdlib"))
     implementation("com.fasterxml.jackson.core:jackson-databind:${jacksonModuleVersion}")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:${jacksonModuleVersion}")
+    compileOnly("com.fasterxml.jackson.module:jackson-module-afterburner:${jacksonModuleVersion}")
     testImplementation("org.jetbrains.kotlin:kotlin-stdlib-jdk8")
     testImplementation("org.jetbrains.kotlin:kotlin-test-junit5")
+    testImplementation("com.fasterxml.jackson.module:jackson-module-afterburner:${jacksonModuleVersion}")
     implementation("joda-time:joda-time:2.10.10")
-
-
+    jmhImplementation("com.fasterxml.jackson.core:jackson-databind:${jacksonModuleVersion}")
+    jmhImplementation("com.fasterxml.jackson.module:jackson-module-afterburner:${jacksonModuleVersion}")
 }
 
 tasks {
@@ -120,6 +123,16 @@ java {
     withJavadocJar()
 }
 
+jmh {
+    jmhVersion.set("1.32")
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(file("${buildDir}/reports/jmh/results.json"))
+}
+
 jacoco {
     toolVersion = "0.8.7"
     reportsDirectory.set(layout.buildDirectory.dir("${buildDir}/reports/jacoco/"))
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.benchmark;
+
+import io.github.qingmo.json.JSON;
+import io.github.qingmo.json.JSONAsyncDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A request body arriving in 8 KB direct buffers, buffered into a String before parsing against being fed to a
+ * {@link JSONAsyncDecoder} chunk by chunk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AsyncDecoderBenchmark {
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payload payload;
+
+    private List<ByteBuffer> chunks;
+
+    @Setup
+    public void setUp() {
+        byte[] body = payload.ordersJson().getBytes(StandardCharsets.UTF_8);
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, body.length - offset);
+            ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+            chunk.put(body, offset, length).flip();
+            chunks.add(chunk);
+        }
+    }
+
+    @Benchmark
+    public List<Order> bufferThenParse() {
+        StringBuilder body = new StringBuilder();
+        for (ByteBuffer chunk : chunks) {
+            body.append(StandardCharsets.UTF_8.decode(chunk.duplicate()));
+        }
+        return JSON.parseArray(body.toString(), Order.class);
+    }
+
+    @Benchmark
+    public List<Order> asyncArrayDecoder() {
+        JSONAsyncDecoder<Order> decoder = JSON.newAsyncArrayDecoder(Order.class);
+        List<Order> orders = new ArrayList<>();
+        for (ByteBuffer chunk : chunks) {
+            orders.addAll(decoder.feed(chunk.duplicate()));
+        }
+        orders.addAll(decoder.endOfInput());
+        return orders;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.benchmark;
+
+import io.github.qingmo.json.JSONConfig;
+import io.github.qingmo.json.JSONMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reflective versus generated property accessors on {@link WideDto}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BytecodeAccessorBenchmark {
+
+    @Param({"false", "true"})
+    public boolean bytecodeAccessors;
+
+    private JSONMapper mapper;
+    private WideDto dto;
+    private List<WideDto> dtos;
+    private String dtoJson;
+    private String dtosJson;
+
+    @Setup
+    public void setUp() {
+        mapper = new JSONMapper(JSONConfig.builder().bytecodeAccessors(bytecodeAccessors).build());
+        dto = WideDto.create(1);
+        dtos = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            dtos.add(WideDto.create(i));
+        }
+        dtoJson = mapper.toJSONString(dto);
+        dtosJson = mapper.toJSONString(dtos);
+    }
+
+    @Benchmark
+    public String toJSONString() {
+        return mapper.toJSONString(dto);
+    }
+
+    @Benchmark
+    public String toJSONStringList() {
+        return mapper.toJSONString(dtos);
+    }
+
+    @Benchmark
+    public WideDto parseObjectWithClass() {
+        return mapper.parseObject(dtoJson, WideDto.class);
+    }
+
+    @Benchmark
+    public List<WideDto> parseArrayWithClass() {
+        return mapper.parseArray(dtosJson, WideDto.class);
+    }
+}
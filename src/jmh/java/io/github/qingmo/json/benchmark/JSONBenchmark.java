@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.benchmark;
+
+import io.github.qingmo.json.JSON;
+import io.github.qingmo.json.JSONArray;
+import io.github.qingmo.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JSONBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payload payload;
+
+    private Order order;
+    private List<Order> orders;
+    private String orderJson;
+    private String ordersJson;
+
+    @Setup
+    public void setUp() {
+        order = payload.order();
+        orders = payload.orders();
+        orderJson = payload.orderJson();
+        ordersJson = payload.ordersJson();
+    }
+
+    @Benchmark
+    public String toJSONString() {
+        return JSON.toJSONString(order);
+    }
+
+    @Benchmark
+    public String toJSONStringList() {
+        return JSON.toJSONString(orders);
+    }
+
+    @Benchmark
+    public JSONObject parseObject() {
+        return JSON.parseObject(orderJson);
+    }
+
+    @Benchmark
+    public Order parseObjectWithClass() {
+        return JSON.parseObject(orderJson, Order.class);
+    }
+
+    @Benchmark
+    public String parseObjectAndGet() {
+        JSONObject object = JSON.parseObject(orderJson);
+        return object.getString("orderNo") + object.getLong("id");
+    }
+
+    @Benchmark
+    public String parseLazyObjectAndGet() {
+        JSONObject object = JSON.parseLazyObject(orderJson);
+        return object.getString("orderNo") + object.getLong("id");
+    }
+
+    @Benchmark
+    public String extract() {
+        return JSON.extractString(orderJson, "$.items[1].sku");
+    }
+
+    @Benchmark
+    public String parseObjectAndExtract() {
+        return JSON.parseObject(orderJson).getJSONArray("items").getJSONObject(1).getString("sku");
+    }
+
+    @Benchmark
+    public JSONArray parseArray() {
+        return JSON.parseArray(ordersJson);
+    }
+
+    @Benchmark
+    public List<Order> parseArrayWithClass() {
+        return JSON.parseArray(ordersJson, Order.class);
+    }
+}
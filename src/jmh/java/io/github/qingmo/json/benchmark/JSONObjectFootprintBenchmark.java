@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.benchmark;
+
+import io.github.qingmo.json.JSON;
+import io.github.qingmo.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Footprint of small {@link JSONObject}s, the compact backing map against the previous {@link HashMap} layout. Run
+ * with the GC profiler, {@code gc.alloc.rate.norm} is the number of bytes allocated to build one object, garbage of
+ * the growing backing storage included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JSONObjectFootprintBenchmark {
+
+    @Param({"2", "4", "8", "16"})
+    public int keys;
+
+    private String[] names;
+    private Integer[] values;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        names = new String[keys];
+        values = new Integer[keys];
+        JSONObject object = new JSONObject();
+        for (int i = 0; i < keys; i++) {
+            names[i] = "field" + i;
+            values[i] = i;
+            object.put(names[i], values[i]);
+        }
+        json = object.toJSONString();
+    }
+
+    @Benchmark
+    public JSONObject hashMapLayout() {
+        JSONObject object = new JSONObject(new HashMap<>());
+        for (int i = 0; i < keys; i++) {
+            object.put(names[i], values[i]);
+        }
+        return object;
+    }
+
+    @Benchmark
+    public JSONObject compactLayout() {
+        JSONObject object = new JSONObject();
+        for (int i = 0; i < keys; i++) {
+            object.put(names[i], values[i]);
+        }
+        return object;
+    }
+
+    @Benchmark
+    public JSONObject parseObject() {
+        return JSON.parseObject(json);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.benchmark;
+
+import io.github.qingmo.json.JSON;
+import io.github.qingmo.json.JSONArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Numeric arrays decoded into boxed {@link JSONArray} elements against primitive arrays. Run with the GC profiler to
+ * compare {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class NumericArrayBenchmark {
+
+    @Param({"1000", "100000"})
+    public int length;
+
+    private String ints;
+    private String doubles;
+    private int[] intValues;
+    private JSONArray parsedInts;
+
+    @Setup
+    public void setUp() {
+        StringBuilder intBuilder = new StringBuilder("[");
+        StringBuilder doubleBuilder = new StringBuilder("[");
+        intValues = new int[length];
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                intBuilder.append(',');
+                doubleBuilder.append(',');
+            }
+            intValues[i] = i * 31 + 100000;
+            intBuilder.append(intValues[i]);
+            doubleBuilder.append(i * 0.25);
+        }
+        ints = intBuilder.append(']').toString();
+        doubles = doubleBuilder.append(']').toString();
+        parsedInts = JSON.parseArray(ints);
+    }
+
+    @Benchmark
+    public JSONArray parseArrayOfInts() {
+        return JSON.parseArray(ints);
+    }
+
+    @Benchmark
+    public int[] parseIntArray() {
+        return JSON.parseIntArray(ints);
+    }
+
+    @Benchmark
+    public int[] parseArrayToIntArray() {
+        return JSON.parseArray(ints).toIntArray();
+    }
+
+    @Benchmark
+    public JSONArray parseArrayOfDoubles() {
+        return JSON.parseArray(doubles);
+    }
+
+    @Benchmark
+    public double[] parseDoubleArray() {
+        return JSON.parseDoubleArray(doubles);
+    }
+
+    @Benchmark
+    public String writeIntArray() {
+        return JSON.toJSONString(intValues);
+    }
+
+    @Benchmark
+    public long sumIntValues() {
+        long sum = 0;
+        for (int i = 0; i < parsedInts.size(); i++) {
+            sum += parsedInts.getIntValue(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String writeParsedArray() {
+        return parsedInts.toJSONString();
+    }
+}
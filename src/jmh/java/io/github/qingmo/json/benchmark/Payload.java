@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.benchmark;
+
+import io.github.qingmo.json.JSON;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Payload sizes shared by all benchmarks. Every payload is generated from a fixed seed so runs are comparable.
+ */
+public enum Payload {
+    SMALL(2, 10),
+    MEDIUM(20, 100),
+    LARGE(100, 1000);
+
+    private static final long BASE_TIME = 1625068800000L;
+
+    private final int itemsPerOrder;
+    private final int orderCount;
+
+    Payload(int itemsPerOrder, int orderCount) {
+        this.itemsPerOrder = itemsPerOrder;
+        this.orderCount = orderCount;
+    }
+
+    public int orderCount() {
+        return orderCount;
+    }
+
+    public Order order() {
+        return newOrder(new Random(42), 0);
+    }
+
+    public List<Order> orders() {
+        Random random = new Random(42);
+        List<Order> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(newOrder(random, i));
+        }
+        return orders;
+    }
+
+    public String orderJson() {
+        return JSON.toJSONString(order());
+    }
+
+    public String ordersJson() {
+        return JSON.toJSONString(orders());
+    }
+
+    private Order newOrder(Random random, int index) {
+        Order order = new Order();
+        order.setId(10_000_000_000L + index);
+        order.setOrderNo("NO" + (100_000 + index));
+        order.setStatus(random.nextInt(8));
+        order.setAmount(random.nextInt(1_000_000) / 100.0);
+        order.setPaid(random.nextBoolean());
+        order.setCreatedAt(new Date(BASE_TIME + random.nextInt(86_400) * 1000L));
+        List<OrderItem> items = new ArrayList<>(itemsPerOrder);
+        for (int i = 0; i < itemsPerOrder; i++) {
+            OrderItem item = new OrderItem();
+            item.setSku("SKU-" + random.nextInt(100_000));
+            item.setTitle("item title " + i);
+            item.setQuantity(1 + random.nextInt(10));
+            item.setPrice(random.nextInt(100_000));
+            items.add(item);
+        }
+        order.setItems(items);
+        return order;
+    }
+}
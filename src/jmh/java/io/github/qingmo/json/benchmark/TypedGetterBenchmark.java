@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.benchmark;
+
+import io.github.qingmo.json.JSON;
+import io.github.qingmo.json.JSONArray;
+import io.github.qingmo.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TypedGetterBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payload payload;
+
+    private JSONObject order;
+    private JSONArray orders;
+    private JSONObject numericStrings;
+
+    @Setup
+    public void setUp() {
+        order = JSON.parseObject(payload.orderJson());
+        orders = JSON.parseArray(payload.ordersJson());
+        numericStrings = new JSONObject();
+        numericStrings.put("int", "1,234,567.000");
+        numericStrings.put("long", "9,876,543,210");
+        numericStrings.put("double", "12,345.678");
+        numericStrings.put("dirty", "n/a");
+    }
+
+    @Benchmark
+    public void jsonObjectGetters(Blackhole blackhole) {
+        blackhole.consume(order.getLongValue("id"));
+        blackhole.consume(order.getString("orderNo"));
+        blackhole.consume(order.getIntValue("status"));
+        blackhole.consume(order.getDoubleValue("amount"));
+        blackhole.consume(order.getBooleanValue("paid"));
+        blackhole.consume(order.getString("createdAt"));
+    }
+
+    @Benchmark
+    public void numericStringGetters(Blackhole blackhole) {
+        blackhole.consume(numericStrings.getIntValue("int"));
+        blackhole.consume(numericStrings.getLongValue("long"));
+        blackhole.consume(numericStrings.getDoubleValue("double"));
+    }
+
+    @Benchmark
+    public void dirtyValueGetters(Blackhole blackhole) {
+        blackhole.consume(numericStrings.getIntValue("dirty"));
+        blackhole.consume(numericStrings.getLongValue("dirty"));
+        blackhole.consume(numericStrings.getDoubleValue("dirty"));
+        blackhole.consume(numericStrings.getBooleanValue("dirty"));
+    }
+
+    @Benchmark
+    public void jsonArrayGetters(Blackhole blackhole) {
+        JSONArray items = order.getJSONArray("items");
+        for (int i = 0; i < items.size(); i++) {
+            JSONObject item = items.getJSONObject(i);
+            blackhole.consume(item.getIntValue("quantity"));
+            blackhole.consume(item.getLongValue("price"));
+        }
+    }
+
+    @Benchmark
+    public void nestedJSONArrayAccess(Blackhole blackhole) {
+        for (int i = 0; i < orders.size(); i++) {
+            blackhole.consume(orders.getJSONObject(i).getJSONArray("items").size());
+        }
+    }
+
+    @Benchmark
+    public Order jsonObjectToJavaObject() {
+        return order.toJavaObject(Order.class);
+    }
+
+    @Benchmark
+    public List<OrderItem> nestedToJavaList() {
+        return order.getJSONArray("items").toJavaList(OrderItem.class);
+    }
+
+    @Benchmark
+    public List<Order> jsonArrayToJavaList() {
+        return orders.toJavaList(Order.class);
+    }
+
+    @Benchmark
+    public void jsonArrayGetObject(Blackhole blackhole) {
+        for (int i = 0; i < orders.size(); i++) {
+            blackhole.consume(orders.getObject(i, Order.class));
+        }
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.benchmark;
+
+/**
+ * A 40 property DTO, typical for the API payloads bound through {@link io.github.qingmo.json.JSON}.
+ */
+public class WideDto {
+    private String text1;
+    private String text2;
+    private String text3;
+    private String text4;
+    private String text5;
+    private String text6;
+    private String text7;
+    private String text8;
+    private String text9;
+    private String text10;
+    private int count1;
+    private int count2;
+    private int count3;
+    private int count4;
+    private int count5;
+    private int count6;
+    private int count7;
+    private int count8;
+    private int count9;
+    private int count10;
+    private long amount1;
+    private long amount2;
+    private long amount3;
+    private long amount4;
+    private long amount5;
+    private long amount6;
+    private long amount7;
+    private long amount8;
+    private long amount9;
+    private long amount10;
+    private double ratio1;
+    private double ratio2;
+    private double ratio3;
+    private double ratio4;
+    private double ratio5;
+    private boolean flag1;
+    private boolean flag2;
+    private boolean flag3;
+    private boolean flag4;
+    private boolean flag5;
+
+    public String getText1() {
+        return text1;
+    }
+
+    public void setText1(String text1) {
+        this.text1 = text1;
+    }
+
+    public String getText2() {
+        return text2;
+    }
+
+    public void setText2(String text2) {
+        this.text2 = text2;
+    }
+
+    public String getText3() {
+        return text3;
+    }
+
+    public void setText3(String text3) {
+        this.text3 = text3;
+    }
+
+    public String getText4() {
+        return text4;
+    }
+
+    public void setText4(String text4) {
+        this.text4 = text4;
+    }
+
+    public String getText5() {
+        return text5;
+    }
+
+    public void setText5(String text5) {
+        this.text5 = text5;
+    }
+
+    public String getText6() {
+        return text6;
+    }
+
+    public void setText6(String text6) {
+        this.text6 = text6;
+    }
+
+    public String getText7() {
+        return text7;
+    }
+
+    public void setText7(String text7) {
+        this.text7 = text7;
+    }
+
+    public String getText8() {
+        return text8;
+    }
+
+    public void setText8(String text8) {
+        this.text8 = text8;
+    }
+
+    public String getText9() {
+        return text9;
+    }
+
+    public void setText9(String text9) {
+        this.text9 = text9;
+    }
+
+    public String getText10() {
+        return text10;
+    }
+
+    public void setText10(String text10) {
+        this.text10 = text10;
+    }
+
+    public int getCount1() {
+        return count1;
+    }
+
+    public void setCount1(int count1) {
+        this.count1 = count1;
+    }
+
+    public int getCount2() {
+        return count2;
+    }
+
+    public void setCount2(int count2) {
+        this.count2 = count2;
+    }
+
+    public int getCount3() {
+        return count3;
+    }
+
+    public void setCount3(int count3) {
+        this.count3 = count3;
+    }
+
+    public int getCount4() {
+        return count4;
+    }
+
+    public void setCount4(int count4) {
+        this.count4 = count4;
+    }
+
+    public int getCount5() {
+        return count5;
+    }
+
+    public void setCount5(int count5) {
+        this.count5 = count5;
+    }
+
+    public int getCount6() {
+        return count6;
+    }
+
+    public void setCount6(int count6) {
+        this.count6 = count6;
+    }
+
+    public int getCount7() {
+        return count7;
+    }
+
+    public void setCount7(int count7) {
+        this.count7 = count7;
+    }
+
+    public int getCount8() {
+        return count8;
+    }
+
+    public void setCount8(int count8) {
+        this.count8 = count8;
+    }
+
+    public int getCount9() {
+        return count9;
+    }
+
+    public void setCount9(int count9) {
+        this.count9 = count9;
+    }
+
+    public int getCount10() {
+        return count10;
+    }
+
+    public void setCount10(int count10) {
+        this.count10 = count10;
+    }
+
+    public long getAmount1() {
+        return amount1;
+    }
+
+    public void setAmount1(long amount1) {
+        this.amount1 = amount1;
+    }
+
+    public long getAmount2() {
+        return amount2;
+    }
+
+    public void setAmount2(long amount2) {
+        this.amount2 = amount2;
+    }
+
+    public long getAmount3() {
+        return amount3;
+    }
+
+    public void setAmount3(long amount3) {
+        this.amount3 = amount3;
+    }
+
+    public long getAmount4() {
+        return amount4;
+    }
+
+    public void setAmount4(long amount4) {
+        this.amount4 = amount4;
+    }
+
+    public long getAmount5() {
+        return amount5;
+    }
+
+    public void setAmount5(long amount5) {
+        this.amount5 = amount5;
+    }
+
+    public long getAmount6() {
+        return amount6;
+    }
+
+    public void setAmount6(long amount6) {
+        this.amount6 = amount6;
+    }
+
+    public long getAmount7() {
+        return amount7;
+    }
+
+    public void setAmount7(long amount7) {
+        this.amount7 = amount7;
+    }
+
+    public long getAmount8() {
+        return amount8;
+    }
+
+    public void setAmount8(long amount8) {
+        this.amount8 = amount8;
+    }
+
+    public long getAmount9() {
+        return amount9;
+    }
+
+    public void setAmount9(long amount9) {
+        this.amount9 = amount9;
+    }
+
+    public long getAmount10() {
+        return amount10;
+    }
+
+    public void setAmount10(long amount10) {
+        this.amount10 = amount10;
+    }
+
+    public double getRatio1() {
+        return ratio1;
+    }
+
+    public void setRatio1(double ratio1) {
+        this.ratio1 = ratio1;
+    }
+
+    public double getRatio2() {
+        return ratio2;
+    }
+
+    public void setRatio2(double ratio2) {
+        this.ratio2 = ratio2;
+    }
+
+    public double getRatio3() {
+        return ratio3;
+    }
+
+    public void setRatio3(double ratio3) {
+        this.ratio3 = ratio3;
+    }
+
+    public double getRatio4() {
+        return ratio4;
+    }
+
+    public void setRatio4(double ratio4) {
+        this.ratio4 = ratio4;
+    }
+
+    public double getRatio5() {
+        return ratio5;
+    }
+
+    public void setRatio5(double ratio5) {
+        this.ratio5 = ratio5;
+    }
+
+    public boolean isFlag1() {
+        return flag1;
+    }
+
+    public void setFlag1(boolean flag1) {
+        this.flag1 = flag1;
+    }
+
+    public boolean isFlag2() {
+        return flag2;
+    }
+
+    public void setFlag2(boolean flag2) {
+        this.flag2 = flag2;
+    }
+
+    public boolean isFlag3() {
+        return flag3;
+    }
+
+    public void setFlag3(boolean flag3) {
+        this.flag3 = flag3;
+    }
+
+    public boolean isFlag4() {
+        return flag4;
+    }
+
+    public void setFlag4(boolean flag4) {
+        this.flag4 = flag4;
+    }
+
+    public boolean isFlag5() {
+        return flag5;
+    }
+
+    public void setFlag5(boolean flag5) {
+        this.flag5 = flag5;
+    }
+
+    static WideDto create(int seed) {
+        WideDto dto = new WideDto();
+        dto.setText1("value-0-" + seed);
+        dto.setText2("value-1-" + seed);
+        dto.setText3("value-2-" + seed);
+        dto.setText4("value-3-" + seed);
+        dto.setText5("value-4-" + seed);
+        dto.setText6("value-5-" + seed);
+        dto.setText7("value-6-" + seed);
+        dto.setText8("value-7-" + seed);
+        dto.setText9("value-8-" + seed);
+        dto.setText10("value-9-" + seed);
+        dto.setCount1(seed + 10);
+        dto.setCount2(seed + 11);
+        dto.setCount3(seed + 12);
+        dto.setCount4(seed + 13);
+        dto.setCount5(seed + 14);
+        dto.setCount6(seed + 15);
+        dto.setCount7(seed + 16);
+        dto.setCount8(seed + 17);
+        dto.setCount9(seed + 18);
+        dto.setCount10(seed + 19);
+        dto.setAmount1(seed * 1000L + 20);
+        dto.setAmount2(seed * 1000L + 21);
+        dto.setAmount3(seed * 1000L + 22);
+        dto.setAmount4(seed * 1000L + 23);
+        dto.setAmount5(seed * 1000L + 24);
+        dto.setAmount6(seed * 1000L + 25);
+        dto.setAmount7(seed * 1000L + 26);
+        dto.setAmount8(seed * 1000L + 27);
+        dto.setAmount9(seed * 1000L + 28);
+        dto.setAmount10(seed * 1000L + 29);
+        dto.setRatio1(seed + 30 / 8.0);
+        dto.setRatio2(seed + 31 / 8.0);
+        dto.setRatio3(seed + 32 / 8.0);
+        dto.setRatio4(seed + 33 / 8.0);
+        dto.setRatio5(seed + 34 / 8.0);
+        dto.setFlag1((seed + 35) % 2 == 0);
+        dto.setFlag2((seed + 36) % 2 == 0);
+        dto.setFlag3((seed + 37) % 2 == 0);
+        dto.setFlag4((seed + 38) % 2 == 0);
+        dto.setFlag5((seed + 39) % 2 == 0);
+        return dto;
+    }
+}
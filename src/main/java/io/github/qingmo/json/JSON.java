@@ -23,139 +23,251 @@
  */
 package io.github.qingmo.json;
 
-import com.fasterxml.jackson.annotation.JsonInclude.Include;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ser.std.DateSerializer;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
-import io.github.qingmo.json.exception.JSONException;
-import io.github.qingmo.json.internal.MultiDateDeserializer;
-
-import java.text.SimpleDateFormat;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Date;
+import io.github.qingmo.json.internal.CodecCache;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Stream;
 
+/**
+ * Static facade over the default {@link JSONMapper}, use {@link JSONConfig} to build independently configured
+ * instances.
+ */
 public final class JSON {
     public static final String STANDARD_PATTERN = "yyyy-MM-dd HH:mm:ss";
     public static final String DATE_PATTERN = "yyyy-MM-dd";
-    private static final String TIME_PATTERN = "HH:mm:ss";
-    private static final ObjectMapper objectMapper;
+    private static final JSONMapper DEFAULT = new JSONMapper(JSONConfig.DEFAULT);
 
-    static {
-        objectMapper = new ObjectMapper();
+    public static JSONMapper getDefault() {
+        return DEFAULT;
+    }
 
-        objectMapper.setSerializationInclusion(Include.NON_NULL);
-        objectMapper.enable(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL);
+    public static String toJSONString(Object jsonString) {
+        return DEFAULT.toJSONString(jsonString);
+    }
 
-        // 初始化JavaTimeModule
-        JavaTimeModule javaTimeModule = new JavaTimeModule();
+    public static byte[] toJSONBytes(Object object) {
+        return DEFAULT.toJSONBytes(object);
+    }
 
-        //处理LocalDateTime
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(STANDARD_PATTERN);
-        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(dateTimeFormatter));
-        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(dateTimeFormatter));
-        //处理LocalDate
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
-        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(dateFormatter));
-        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateDeserializer(dateFormatter));
-        //处理LocalTime
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern(TIME_PATTERN);
-        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(timeFormatter));
-        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeDeserializer(timeFormatter));
+    public static void writeJSONString(OutputStream os, Object object) {
+        DEFAULT.writeJSONString(os, object);
+    }
 
-        javaTimeModule.addSerializer(Date.class, new DateSerializer(false, new SimpleDateFormat(STANDARD_PATTERN)));
-        javaTimeModule.addDeserializer(Date.class, new MultiDateDeserializer());
+    public static Object parse(String jsonString) {
+        return DEFAULT.parse(jsonString);
+    }
 
-        //注册时间模块, 支持支持jsr310, 即新的时间类(java.time包下的时间类)
-        objectMapper.registerModule(javaTimeModule);
+    public static Object parse(Path path) {
+        return DEFAULT.parse(path);
     }
 
+    public static JSONObject parseObject(String jsonString) {
+        return DEFAULT.parseObject(jsonString);
+    }
 
-    public static String toJSONString(Object jsonString) {
-        try {
-            return objectMapper.writeValueAsString(jsonString);
-        } catch (Exception e) {
-            throw new JSONException(e);
-        }
+    public static <T> T parseObject(String jsonString, Class<T> clazz) {
+        return DEFAULT.parseObject(jsonString, clazz);
     }
 
-    public static Object parse(String jsonString) {
-        if (isJsonObj(jsonString)) {
-            return parseObject(jsonString);
-        }
-        if (isJsonArray(jsonString)) {
-            return parseArray(jsonString);
-        }
-        try {
-            return objectMapper.readValue(jsonString, JsonNode.class);
-        } catch (Exception e) {
-            throw new JSONException(e);
-        }
+    public static <T> T parseObject(byte[] bytes, Class<T> clazz) {
+        return DEFAULT.parseObject(bytes, clazz);
     }
 
-    public static JSONObject parseObject(String jsonString) {
-        try {
-            return objectMapper.readValue(jsonString, JSONObject.class);
-        } catch (Exception e) {
-            throw new JSONException(e);
-        }
+    public static <T> T parseObject(byte[] bytes, int offset, int len, Class<T> clazz) {
+        return DEFAULT.parseObject(bytes, offset, len, clazz);
     }
 
-    public static <T> T parseObject(String jsonString, Class<T> clazz) {
-        try {
-            return objectMapper.readValue(jsonString, clazz);
-        } catch (Exception e) {
-            throw new JSONException(e);
-        }
+    public static <T> T parseObject(InputStream is, Class<T> clazz) {
+        return DEFAULT.parseObject(is, clazz);
+    }
+
+    public static <T> T parseObject(Path path, Class<T> clazz) {
+        return DEFAULT.parseObject(path, clazz);
     }
 
     public static JSONArray parseArray(String jsonString) {
-        try {
-            return objectMapper.readValue(jsonString, JSONArray.class);
-        } catch (Exception e) {
-            throw new JSONException(e);
-        }
+        return DEFAULT.parseArray(jsonString);
     }
 
     public static <T> List<T> parseArray(String jsonString, Class<T> clazz) {
-        try {
-            JavaType javaType = objectMapper.getTypeFactory().constructParametricType(List.class, clazz);
-            return objectMapper.readValue(jsonString, javaType);
-        } catch (Exception e) {
-            throw new JSONException(e);
-        }
+        return DEFAULT.parseArray(jsonString, clazz);
+    }
+
+    public static <T> List<T> parseArray(InputStream is, Class<T> clazz) {
+        return DEFAULT.parseArray(is, clazz);
+    }
+
+    public static int[] parseIntArray(String jsonString) {
+        return DEFAULT.parseIntArray(jsonString);
+    }
+
+    public static int[] parseIntArray(byte[] bytes) {
+        return DEFAULT.parseIntArray(bytes);
+    }
+
+    public static long[] parseLongArray(String jsonString) {
+        return DEFAULT.parseLongArray(jsonString);
+    }
+
+    public static long[] parseLongArray(byte[] bytes) {
+        return DEFAULT.parseLongArray(bytes);
+    }
+
+    public static double[] parseDoubleArray(String jsonString) {
+        return DEFAULT.parseDoubleArray(jsonString);
+    }
+
+    public static double[] parseDoubleArray(byte[] bytes) {
+        return DEFAULT.parseDoubleArray(bytes);
+    }
+
+    public static ParseResult<JSONObject> tryParseObject(String jsonString) {
+        return DEFAULT.tryParseObject(jsonString);
+    }
+
+    public static <T> ParseResult<T> tryParseObject(String jsonString, Class<T> clazz) {
+        return DEFAULT.tryParseObject(jsonString, clazz);
+    }
+
+    public static JSONObject parseLazyObject(String jsonString) {
+        return DEFAULT.parseLazyObject(jsonString);
+    }
+
+    public static JSONArray parseLazyArray(String jsonString) {
+        return DEFAULT.parseLazyArray(jsonString);
+    }
+
+    public static <T> Stream<T> streamArray(InputStream is, Class<T> clazz) {
+        return DEFAULT.streamArray(is, clazz);
     }
 
+    public static <T> JSONAsyncDecoder<T> newAsyncDecoder(Class<T> clazz) {
+        return DEFAULT.newAsyncDecoder(clazz);
+    }
+
+    public static <T> JSONAsyncDecoder<T> newAsyncArrayDecoder(Class<T> clazz) {
+        return DEFAULT.newAsyncArrayDecoder(clazz);
+    }
+
+    public static <T> Stream<T> parseLines(Path path, Class<T> clazz, int parallelism) {
+        return DEFAULT.parseLines(path, clazz, parallelism);
+    }
+
+    public static <T> Stream<T> parseLines(Path path, Class<T> clazz, int parallelism, boolean ordered) {
+        return DEFAULT.parseLines(path, clazz, parallelism, ordered);
+    }
+
+    public static Object extract(String json, String path) {
+        return DEFAULT.extract(json, path);
+    }
+
+    public static Object extract(byte[] json, String path) {
+        return DEFAULT.extract(json, path);
+    }
+
+    public static <T> T extract(String json, String path, Class<T> clazz) {
+        return DEFAULT.extract(json, path, clazz);
+    }
+
+    public static <T> T extract(byte[] json, String path, Class<T> clazz) {
+        return DEFAULT.extract(json, path, clazz);
+    }
+
+    public static String extractString(String json, String path) {
+        return DEFAULT.extractString(json, path);
+    }
+
+    public static String extractString(byte[] json, String path) {
+        return DEFAULT.extractString(json, path);
+    }
+
+    public static Long extractLong(String json, String path) {
+        return DEFAULT.extractLong(json, path);
+    }
+
+    public static Long extractLong(byte[] json, String path) {
+        return DEFAULT.extractLong(json, path);
+    }
+
+    public static Integer extractInteger(String json, String path) {
+        return DEFAULT.extractInteger(json, path);
+    }
+
+    public static Integer extractInteger(byte[] json, String path) {
+        return DEFAULT.extractInteger(json, path);
+    }
+
+    public static Double extractDouble(String json, String path) {
+        return DEFAULT.extractDouble(json, path);
+    }
+
+    public static Double extractDouble(byte[] json, String path) {
+        return DEFAULT.extractDouble(json, path);
+    }
+
+    public static Boolean extractBoolean(String json, String path) {
+        return DEFAULT.extractBoolean(json, path);
+    }
+
+    public static Boolean extractBoolean(byte[] json, String path) {
+        return DEFAULT.extractBoolean(json, path);
+    }
+
+    public static <T> T toJavaObject(Object value, Class<T> clazz) {
+        return DEFAULT.toJavaObject(value, clazz);
+    }
+
+    /**
+     * Only checks the surrounding brackets of an object or array, use {@link #isValid(String)} for a full syntax check.
+     */
     public static boolean isJson(String str) {
         return isJsonObj(str) || isJsonArray(str);
     }
 
     public static boolean isJsonObj(String str) {
-        if (str == null || str.trim().equals("")) {
-            return false;
-        }
-        String trimedStr = str.trim();
-        return trimedStr.startsWith("{") && trimedStr.endsWith("}");
+        return firstNonWhitespace(str) == '{' && lastNonWhitespace(str) == '}';
     }
 
     public static boolean isJsonArray(String str) {
-        if (str == null || str.trim().equals("")) {
-            return false;
+        return firstNonWhitespace(str) == '[' && lastNonWhitespace(str) == ']';
+    }
+
+    public static boolean isValid(String str) {
+        return DEFAULT.isValid(str);
+    }
+
+    // 与 String.trim() 一致, 小于等于空格的字符都视为空白
+    static char firstNonWhitespace(String str) {
+        if (str == null) {
+            return 0;
+        }
+        for (int i = 0, len = str.length(); i < len; i++) {
+            char ch = str.charAt(i);
+            if (ch > ' ') {
+                return ch;
+            }
         }
-        String trimedStr = str.trim();
-        return trimedStr.startsWith("[") && trimedStr.endsWith("]");
+        return 0;
+    }
+
+    private static char lastNonWhitespace(String str) {
+        if (str == null) {
+            return 0;
+        }
+        for (int i = str.length() - 1; i >= 0; i--) {
+            char ch = str.charAt(i);
+            if (ch > ' ') {
+                return ch;
+            }
+        }
+        return 0;
+    }
+
+    public static CodecCache.Stats cacheStats() {
+        return DEFAULT.cacheStats();
     }
 
     private JSON() {
@@ -23,6 +23,7 @@
  */
 package io.github.qingmo.json;
 
+import io.github.qingmo.json.internal.NumericList;
 import io.github.qingmo.json.internal.TypeUtils;
 
 import java.math.BigDecimal;
@@ -35,21 +36,42 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Spliterator;
 import java.util.function.UnaryOperator;
-
+import java.util.stream.Collectors;
+
+/**
+ * The conversion and serialization helpers ({@link #toJSONString()}, {@link #getObject(int, Class)},
+ * {@link #toJavaList(Class)}, {@link #getJSONObject(int)}, {@link #getJSONArray(int)}) always go through the static
+ * {@link JSON} facade and its default configuration, also for arrays a {@link JSONMapper} produced. Use
+ * {@link JSONMapper#toJSONString(Object)} and {@link JSONMapper#toJavaObject(Object, Class)} to apply a mapper's
+ * settings.
+ */
 public final class JSONArray implements List<Object> {
     private List<Object> list;
 
     public JSONArray(List<Object> list) {
-        this.list = new ArrayList<>();
-        this.list.addAll(list);
+        this(list, true);
+    }
+
+    private JSONArray(List<Object> list, boolean copy) {
+        this.list = copy ? new NumericList(list) : list;
     }
 
     public JSONArray(int size) {
-        this.list = new ArrayList<>(size);
+        this.list = new NumericList(size);
     }
 
     public JSONArray() {
-        this.list = new ArrayList<>(16);
+        this.list = new NumericList(16);
+    }
+
+    /**
+     * Wraps the given list without copying it, changes made through the returned array are visible in the list.
+     */
+    public static JSONArray wrap(List<Object> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("list can not be null");
+        }
+        return new JSONArray(list, false);
     }
 
     public final JSONObject getJSONObject(int index) {
@@ -69,11 +91,21 @@ public final class JSONArray implements List<Object> {
             return (JSONArray) value;
         }
         if (value instanceof List) {
-            return new JSONArray((List) value);
+            JSONArray array = wrap((List<Object>) value);
+            promote(index, array);
+            return array;
         }
         return null;
     }
 
+    private void promote(int index, JSONArray array) {
+        try {
+            this.list.set(index, array);
+        } catch (UnsupportedOperationException ignore) {
+            // read-only wrapped list, the value is wrapped again on the next access
+        }
+    }
+
     public final Boolean getBoolean(int index) {
         Object value = this.list.get(index);
         return TypeUtils.castToBoolean(value);
@@ -81,15 +113,63 @@ public final class JSONArray implements List<Object> {
 
     public final boolean getBooleanValue(int index) {
         Object value = this.list.get(index);
-        try {
-            return TypeUtils.castToBoolean(value);
-        } catch (Exception e) {
-            return false;
-        }
+        return TypeUtils.tryCastToBooleanValue(value, false);
     }
 
     public final <T> List<T> toJavaList(Class<T> clazz) {
-        return JSON.parseArray(this.toJSONString(), clazz);
+        List<T> result = new ArrayList<>(this.list.size());
+        for (Object value : this.list) {
+            result.add(JSON.toJavaObject(value, clazz));
+        }
+        return result;
+    }
+
+    public final <T> List<T> toJavaList(Class<T> clazz, boolean parallel) {
+        if (!parallel) {
+            return toJavaList(clazz);
+        }
+        return this.list.parallelStream()
+                .map(value -> JSON.toJavaObject(value, clazz))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Converts every element the way {@link #getIntValue(int)} does.
+     */
+    public final int[] toIntArray() {
+        if (this.list instanceof NumericList) {
+            return ((NumericList) this.list).toIntArray();
+        }
+        int[] result = new int[this.list.size()];
+        int i = 0;
+        for (Object value : this.list) {
+            result[i++] = TypeUtils.tryCastToIntValue(value, 0);
+        }
+        return result;
+    }
+
+    public final long[] toLongArray() {
+        if (this.list instanceof NumericList) {
+            return ((NumericList) this.list).toLongArray();
+        }
+        long[] result = new long[this.list.size()];
+        int i = 0;
+        for (Object value : this.list) {
+            result[i++] = TypeUtils.tryCastToLongValue(value, 0L);
+        }
+        return result;
+    }
+
+    public final double[] toDoubleArray() {
+        if (this.list instanceof NumericList) {
+            return ((NumericList) this.list).toDoubleArray();
+        }
+        double[] result = new double[this.list.size()];
+        int i = 0;
+        for (Object value : this.list) {
+            result[i++] = TypeUtils.tryCastToDoubleValue(value, 0.0);
+        }
+        return result;
     }
 
     public final Byte getByte(int index) {
@@ -99,11 +179,7 @@ public final class JSONArray implements List<Object> {
 
     public final byte getByteValue(int index) {
         Object value = this.list.get(index);
-        try {
-            return TypeUtils.castToByte(value);
-        } catch (Exception e) {
-            return 0;
-        }
+        return TypeUtils.tryCastToByteValue(value, (byte) 0);
     }
 
     public final Short getShort(int index) {
@@ -113,11 +189,7 @@ public final class JSONArray implements List<Object> {
 
     public final short getShortValue(int index) {
         Object value = this.list.get(index);
-        try {
-            return TypeUtils.castToShort(value);
-        } catch (Exception ignore) {
-            return 0;
-        }
+        return TypeUtils.tryCastToShortValue(value, (short) 0);
     }
 
     public final Integer getInteger(int index) {
@@ -126,12 +198,11 @@ public final class JSONArray implements List<Object> {
     }
 
     public final int getIntValue(int index) {
-        Object value = this.list.get(index);
-        try {
-            return TypeUtils.castToInt(value);
-        } catch (Exception ignore) {
-            return 0;
+        if (this.list instanceof NumericList) {
+            return ((NumericList) this.list).intValue(index);
         }
+        Object value = this.list.get(index);
+        return TypeUtils.tryCastToIntValue(value, 0);
     }
 
     public final Long getLong(int index) {
@@ -140,12 +211,11 @@ public final class JSONArray implements List<Object> {
     }
 
     public final long getLongValue(int index) {
-        Object value = this.list.get(index);
-        try {
-            return TypeUtils.castToLong(value);
-        } catch (Exception ignore) {
-            return 0L;
+        if (this.list instanceof NumericList) {
+            return ((NumericList) this.list).longValue(index);
         }
+        Object value = this.list.get(index);
+        return TypeUtils.tryCastToLongValue(value, 0L);
     }
 
     public final Float getFloat(int index) {
@@ -155,11 +225,7 @@ public final class JSONArray implements List<Object> {
 
     public final float getFloatValue(int index) {
         Object value = this.list.get(index);
-        try {
-            return TypeUtils.castToFloat(value);
-        } catch (Exception ignore) {
-            return 0.0F;
-        }
+        return TypeUtils.tryCastToFloatValue(value, 0f);
     }
 
     public final Double getDouble(int index) {
@@ -168,12 +234,11 @@ public final class JSONArray implements List<Object> {
     }
 
     public final double getDoubleValue(int index) {
-        Object value = this.list.get(index);
-        try {
-            return TypeUtils.castToDouble(value);
-        } catch (Exception ignore) {
-            return 0.0D;
+        if (this.list instanceof NumericList) {
+            return ((NumericList) this.list).doubleValue(index);
         }
+        Object value = this.list.get(index);
+        return TypeUtils.tryCastToDoubleValue(value, 0.0);
     }
 
     public final BigDecimal getBigDecimal(int index) {
@@ -196,7 +261,7 @@ public final class JSONArray implements List<Object> {
         if (value == null) {
             return null;
         }
-        return JSON.parseObject(JSON.toJSONString(value), clazz);
+        return JSON.toJavaObject(value, clazz);
     }
 
     public final String toJSONString() {
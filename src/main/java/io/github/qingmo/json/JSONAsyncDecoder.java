@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.qingmo.json.exception.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Push-style decoder for content that arrives in chunks, built on Jackson's non-blocking parser. Each call to
+ * {@link #feed(ByteBuffer)} returns the values completed by that chunk, either every top-level value or, for an array
+ * decoder, every element of the top-level arrays. Tokens of a value that is still incomplete are buffered until it
+ * ends, no thread ever blocks waiting for input.
+ * <p>
+ * A decoder keeps parsing state and is meant to be confined to one thread, such as an event loop.
+ */
+public final class JSONAsyncDecoder<T> implements Closeable {
+    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+    private final boolean elements;
+    private final Function<Exception, JSONException> failure;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private byte[] chunk = new byte[0];
+    private TokenBuffer pending;
+    private int depth;
+    private boolean insideArray;
+    private boolean ended;
+
+    JSONAsyncDecoder(ObjectMapper objectMapper, ObjectReader reader, boolean elements,
+                     Function<Exception, JSONException> failure) throws IOException {
+        this.objectMapper = objectMapper;
+        this.reader = reader;
+        this.elements = elements;
+        this.failure = failure;
+        this.parser = objectMapper.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Consumes the remaining bytes of the buffer.
+     *
+     * @return the values completed by this chunk, in order
+     */
+    public List<T> feed(ByteBuffer data) {
+        int length = data.remaining();
+        if (data.hasArray()) {
+            List<T> values = feed(data.array(), data.arrayOffset() + data.position(), length);
+            data.position(data.limit());
+            return values;
+        }
+        // 直接内存先拷贝到复用的数组中, 每次 feed 都会把输入解析完, 数组可以安全复用
+        if (chunk.length < length) {
+            chunk = new byte[Math.max(length, chunk.length << 1)];
+        }
+        data.get(chunk, 0, length);
+        return feed(chunk, 0, length);
+    }
+
+    public List<T> feed(byte[] data, int offset, int length) {
+        if (ended) {
+            throw new JSONException("can not feed decoder, end of input already signalled");
+        }
+        if (length == 0) {
+            return Collections.emptyList();
+        }
+        try {
+            feeder.feedInput(data, offset, offset + length);
+            return drain();
+        } catch (Exception e) {
+            throw failure.apply(e);
+        }
+    }
+
+    /**
+     * Signals that no more content follows.
+     *
+     * @return the values completed by the end of input, such as a trailing top-level number
+     * @throws JSONException when the content ends in the middle of a value
+     */
+    public List<T> endOfInput() {
+        if (ended) {
+            return Collections.emptyList();
+        }
+        ended = true;
+        try {
+            feeder.endOfInput();
+            List<T> values = drain();
+            if (pending != null || insideArray) {
+                throw new JSONException("can not decode content, unexpected end of input");
+            }
+            return values;
+        } catch (Exception e) {
+            throw failure.apply(e);
+        } finally {
+            close();
+        }
+    }
+
+    private List<T> drain() throws IOException {
+        List<T> values = Collections.emptyList();
+        for (JsonToken token = parser.nextToken();
+             token != null && token != JsonToken.NOT_AVAILABLE;
+             token = parser.nextToken()) {
+            if (elements && pending == null) {
+                // 数组模式下, 顶层的 [ 和 ] 不属于任何元素
+                if (!insideArray) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new JSONException("can not decode array elements, content does not start with '['");
+                    }
+                    insideArray = true;
+                    continue;
+                }
+                if (token == JsonToken.END_ARRAY) {
+                    insideArray = false;
+                    continue;
+                }
+            }
+            if (pending == null) {
+                pending = new TokenBuffer(objectMapper, false);
+            }
+            pending.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                if (values.isEmpty()) {
+                    values = new ArrayList<>();
+                }
+                values.add(complete());
+            }
+        }
+        return values;
+    }
+
+    private T complete() throws IOException {
+        try (JsonParser buffered = pending.asParser()) {
+            return reader.readValue(buffered);
+        } finally {
+            pending = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        ended = true;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw failure.apply(e);
+        }
+    }
+}
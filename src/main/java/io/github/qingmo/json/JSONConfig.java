@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable settings of a {@link JSONMapper}, {@link #DEFAULT} is what the static {@link JSON} facade uses.
+ */
+public final class JSONConfig {
+    /**
+     * System property that turns on {@link Builder#bytecodeAccessors(boolean)} for {@link #DEFAULT}, configurations
+     * built with {@link #builder()} are not affected.
+     */
+    public static final String BYTECODE_ACCESSORS_PROPERTY = "io.github.qingmo.json.bytecodeAccessors";
+    /**
+     * System property that turns on {@link Builder#lightweightExceptions(boolean)} for {@link #DEFAULT}, configurations
+     * built with {@link #builder()} are not affected.
+     */
+    public static final String LIGHTWEIGHT_EXCEPTIONS_PROPERTY = "io.github.qingmo.json.lightweightExceptions";
+    public static final JSONConfig DEFAULT = builder()
+            .bytecodeAccessors(Boolean.getBoolean(BYTECODE_ACCESSORS_PROPERTY))
+            .lightweightExceptions(Boolean.getBoolean(LIGHTWEIGHT_EXCEPTIONS_PROPERTY))
+            .build();
+
+    private final Include serializationInclusion;
+    private final boolean failOnUnknownProperties;
+    private final boolean readUnknownEnumValuesAsNull;
+    private final int cacheCapacity;
+    private final boolean bytecodeAccessors;
+    private final boolean lightweightExceptions;
+    private final boolean errorLocation;
+    private final List<Class<?>> prewarmTypes;
+
+    private JSONConfig(Builder builder) {
+        this.serializationInclusion = builder.serializationInclusion;
+        this.failOnUnknownProperties = builder.failOnUnknownProperties;
+        this.readUnknownEnumValuesAsNull = builder.readUnknownEnumValuesAsNull;
+        this.cacheCapacity = builder.cacheCapacity;
+        this.bytecodeAccessors = builder.bytecodeAccessors;
+        this.lightweightExceptions = builder.lightweightExceptions;
+        this.errorLocation = builder.errorLocation;
+        this.prewarmTypes = Collections.unmodifiableList(new ArrayList<>(builder.prewarmTypes));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.serializationInclusion = serializationInclusion;
+        builder.failOnUnknownProperties = failOnUnknownProperties;
+        builder.readUnknownEnumValuesAsNull = readUnknownEnumValuesAsNull;
+        builder.cacheCapacity = cacheCapacity;
+        builder.bytecodeAccessors = bytecodeAccessors;
+        builder.lightweightExceptions = lightweightExceptions;
+        builder.errorLocation = errorLocation;
+        builder.prewarmTypes.addAll(prewarmTypes);
+        return builder;
+    }
+
+    public Include getSerializationInclusion() {
+        return serializationInclusion;
+    }
+
+    public boolean isFailOnUnknownProperties() {
+        return failOnUnknownProperties;
+    }
+
+    public boolean isReadUnknownEnumValuesAsNull() {
+        return readUnknownEnumValuesAsNull;
+    }
+
+    public int getCacheCapacity() {
+        return cacheCapacity;
+    }
+
+    public boolean isBytecodeAccessors() {
+        return bytecodeAccessors;
+    }
+
+    public boolean isLightweightExceptions() {
+        return lightweightExceptions;
+    }
+
+    public boolean isErrorLocation() {
+        return errorLocation;
+    }
+
+    public List<Class<?>> getPrewarmTypes() {
+        return prewarmTypes;
+    }
+
+    public static final class Builder {
+        private Include serializationInclusion = Include.NON_NULL;
+        private boolean failOnUnknownProperties = true;
+        private boolean readUnknownEnumValuesAsNull = true;
+        private int cacheCapacity = 1024;
+        private boolean bytecodeAccessors;
+        private boolean lightweightExceptions;
+        private boolean errorLocation = true;
+        private final List<Class<?>> prewarmTypes = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder serializationInclusion(Include serializationInclusion) {
+            if (serializationInclusion == null) {
+                throw new IllegalArgumentException("serializationInclusion can not be null");
+            }
+            this.serializationInclusion = serializationInclusion;
+            return this;
+        }
+
+        /**
+         * {@code true} (strict) fails on properties the target type does not declare, {@code false} (lenient)
+         * ignores them.
+         */
+        public Builder failOnUnknownProperties(boolean failOnUnknownProperties) {
+            this.failOnUnknownProperties = failOnUnknownProperties;
+            return this;
+        }
+
+        public Builder readUnknownEnumValuesAsNull(boolean readUnknownEnumValuesAsNull) {
+            this.readUnknownEnumValuesAsNull = readUnknownEnumValuesAsNull;
+            return this;
+        }
+
+        public Builder cacheCapacity(int cacheCapacity) {
+            if (cacheCapacity < 0) {
+                throw new IllegalArgumentException("cacheCapacity can not be negative");
+            }
+            this.cacheCapacity = cacheCapacity;
+            return this;
+        }
+
+        /**
+         * Replaces reflective bean property access with accessors generated at runtime (Jackson Afterburner).
+         * Properties that can not be optimized, e.g. private members, keep using reflection.
+         */
+        public Builder bytecodeAccessors(boolean bytecodeAccessors) {
+            this.bytecodeAccessors = bytecodeAccessors;
+            return this;
+        }
+
+        /**
+         * Parse failures raise {@link io.github.qingmo.json.exception.JSONException#lightweight(Throwable, boolean)
+         * lightweight} exceptions, without stack trace and cause, instead of wrapping Jackson's exception.
+         */
+        public Builder lightweightExceptions(boolean lightweightExceptions) {
+            this.lightweightExceptions = lightweightExceptions;
+            return this;
+        }
+
+        /**
+         * Whether lightweight exceptions keep the line and column of the failure in their message. That message also
+         * carries an excerpt of the input, turn this off when payloads must not reach logs.
+         */
+        public Builder errorLocation(boolean errorLocation) {
+            this.errorLocation = errorLocation;
+            return this;
+        }
+
+        /**
+         * Types whose readers and writers are built when the mapper is created instead of on first use.
+         */
+        public Builder prewarm(Class<?>... types) {
+            this.prewarmTypes.addAll(Arrays.asList(types));
+            return this;
+        }
+
+        public JSONConfig build() {
+            return new JSONConfig(this);
+        }
+    }
+}
@@ -0,0 +1,612 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+import io.github.qingmo.json.exception.JSONException;
+import io.github.qingmo.json.internal.BytecodeAccessors;
+import io.github.qingmo.json.internal.CodecCache;
+import io.github.qingmo.json.internal.JSONArrayDeserializer;
+import io.github.qingmo.json.internal.JsonPath;
+import io.github.qingmo.json.internal.LazyDocument;
+import io.github.qingmo.json.internal.MultiDateDeserializer;
+import io.github.qingmo.json.internal.NumericList;
+import io.github.qingmo.json.internal.NumericListSerializer;
+import io.github.qingmo.json.internal.ParallelLineIterator;
+import io.github.qingmo.json.internal.StandardDateSerializer;
+import io.github.qingmo.json.internal.StreamingArrayIterator;
+import io.github.qingmo.json.internal.TypeUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An independent, immutable counterpart of the static {@link JSON} facade built from a {@link JSONConfig}, every
+ * instance owns its {@link ObjectMapper} and reader/writer cache. The {@link JSONObject} and {@link JSONArray} it
+ * returns do not remember it, their own conversion helpers use the default configuration of {@link JSON}.
+ */
+public final class JSONMapper {
+    private static final String TIME_PATTERN = "HH:mm:ss";
+
+    private final JSONConfig config;
+    private final ObjectMapper objectMapper;
+    private final CodecCache codecCache;
+
+    public JSONMapper(JSONConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config can not be null");
+        }
+        this.config = config;
+        this.objectMapper = createObjectMapper(config);
+        this.codecCache = new CodecCache(objectMapper, config.getCacheCapacity());
+        for (Class<?> type : config.getPrewarmTypes()) {
+            codecCache.prewarm(type);
+        }
+    }
+
+    private static ObjectMapper createObjectMapper(JSONConfig config) {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        objectMapper.setSerializationInclusion(config.getSerializationInclusion());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, config.isFailOnUnknownProperties());
+        objectMapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL,
+                config.isReadUnknownEnumValuesAsNull());
+
+        // 初始化JavaTimeModule
+        JavaTimeModule javaTimeModule = new JavaTimeModule();
+
+        //处理LocalDateTime
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(JSON.STANDARD_PATTERN);
+        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(dateTimeFormatter));
+        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(dateTimeFormatter));
+        //处理LocalDate
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(JSON.DATE_PATTERN);
+        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(dateFormatter));
+        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateDeserializer(dateFormatter));
+        //处理LocalTime
+        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern(TIME_PATTERN);
+        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(timeFormatter));
+        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeDeserializer(timeFormatter));
+
+        javaTimeModule.addSerializer(Date.class, new StandardDateSerializer());
+        javaTimeModule.addDeserializer(Date.class, new MultiDateDeserializer());
+
+        //注册时间模块, 支持支持jsr310, 即新的时间类(java.time包下的时间类)
+        objectMapper.registerModule(javaTimeModule);
+
+        SimpleModule collectionModule = new SimpleModule("JSONCollectionModule");
+        // 数组中键相同的对象共享同一份键布局
+        collectionModule.addDeserializer(JSONArray.class, new JSONArrayDeserializer());
+        // 纯数字数组以原始类型数组保存
+        collectionModule.addSerializer(NumericList.class, new NumericListSerializer());
+        objectMapper.registerModule(collectionModule);
+        // afterburner 是可选依赖, 运行时缺少时保持反射访问
+        if (config.isBytecodeAccessors() && BytecodeAccessors.isAvailable()) {
+            BytecodeAccessors.register(objectMapper);
+        }
+        return objectMapper;
+    }
+
+    ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public JSONConfig getConfig() {
+        return config;
+    }
+
+    public String toJSONString(Object object) {
+        try {
+            return codecCache.writer(object).writeValueAsString(object);
+        } catch (Exception e) {
+            throw new JSONException(e);
+        }
+    }
+
+    public byte[] toJSONBytes(Object object) {
+        try {
+            return codecCache.writer(object).writeValueAsBytes(object);
+        } catch (Exception e) {
+            throw new JSONException(e);
+        }
+    }
+
+    public void writeJSONString(OutputStream os, Object object) {
+        try {
+            codecCache.writer(object).writeValue(os, object);
+        } catch (Exception e) {
+            throw new JSONException(e);
+        }
+    }
+
+    public Object parse(String jsonString) {
+        switch (JSON.firstNonWhitespace(jsonString)) {
+            case '{':
+                return parseObject(jsonString);
+            case '[':
+                return parseArray(jsonString);
+            default:
+                break;
+        }
+        try {
+            return codecCache.reader(JsonNode.class).readValue(jsonString);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Parses a file through a read-only memory mapping, the content is fed to the byte parser without being copied
+     * into the heap first.
+     */
+    public Object parse(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Class<?> type;
+            switch (firstNonWhitespace(channel)) {
+                case '{':
+                    type = JSONObject.class;
+                    break;
+                case '[':
+                    type = JSONArray.class;
+                    break;
+                default:
+                    type = JsonNode.class;
+                    break;
+            }
+            return codecCache.reader(type).readValue(mappedStream(channel));
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public JSONObject parseObject(String jsonString) {
+        try {
+            return codecCache.reader(JSONObject.class).readValue(jsonString);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public <T> T parseObject(String jsonString, Class<T> clazz) {
+        try {
+            return codecCache.reader(clazz).readValue(jsonString);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public <T> T parseObject(byte[] bytes, Class<T> clazz) {
+        // null 交给解析器报错, 与其它 parseObject 一样抛出 JSONException
+        return parseObject(bytes, 0, bytes == null ? 0 : bytes.length, clazz);
+    }
+
+    public <T> T parseObject(byte[] bytes, int offset, int len, Class<T> clazz) {
+        try {
+            return codecCache.reader(clazz).readValue(bytes, offset, len);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * @see #parse(Path)
+     */
+    public <T> T parseObject(Path path, Class<T> clazz) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return codecCache.reader(clazz).readValue(mappedStream(channel));
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    private static InputStream mappedStream(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            // 单个映射最大 2GB, 更大的文件直接按流读取
+            return Channels.newInputStream(channel);
+        }
+        return new ByteBufferBackedInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+    }
+
+    private static int firstNonWhitespace(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        long position = 0;
+        // 只有文件开头完整的 EF BB BF 才是 UTF-8 BOM
+        if (channel.read(buffer, 0) >= 3
+                && (buffer.get(0) & 0xFF) == 0xEF && (buffer.get(1) & 0xFF) == 0xBB && (buffer.get(2) & 0xFF) == 0xBF) {
+            position = 3;
+        }
+        buffer.clear();
+        for (int read = channel.read(buffer, position); read > 0; read = channel.read(buffer, position)) {
+            for (int i = 0; i < read; i++) {
+                int b = buffer.get(i) & 0xFF;
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    return b;
+                }
+            }
+            position += read;
+            buffer.clear();
+        }
+        return -1;
+    }
+
+    public <T> T parseObject(InputStream is, Class<T> clazz) {
+        try {
+            return codecCache.reader(clazz).readValue(is);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public JSONArray parseArray(String jsonString) {
+        try {
+            return codecCache.reader(JSONArray.class).readValue(jsonString);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public <T> List<T> parseArray(String jsonString, Class<T> clazz) {
+        try {
+            return codecCache.listReader(clazz).readValue(jsonString);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public <T> List<T> parseArray(InputStream is, Class<T> clazz) {
+        try {
+            return codecCache.listReader(clazz).readValue(is);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Decodes a numeric array straight into an {@code int[]}, no boxed element is created.
+     */
+    public int[] parseIntArray(String jsonString) {
+        return parseObject(jsonString, int[].class);
+    }
+
+    public int[] parseIntArray(byte[] bytes) {
+        return parseObject(bytes, int[].class);
+    }
+
+    public long[] parseLongArray(String jsonString) {
+        return parseObject(jsonString, long[].class);
+    }
+
+    public long[] parseLongArray(byte[] bytes) {
+        return parseObject(bytes, long[].class);
+    }
+
+    public double[] parseDoubleArray(String jsonString) {
+        return parseObject(jsonString, double[].class);
+    }
+
+    public double[] parseDoubleArray(byte[] bytes) {
+        return parseObject(bytes, double[].class);
+    }
+
+    /**
+     * Parses an object that only indexes where its fields start, a field is decoded the first time it is read and
+     * nested objects and arrays are lazy as well.
+     */
+    public JSONObject parseLazyObject(String jsonString) {
+        try {
+            return LazyDocument.parseObject(objectMapper.getFactory(), jsonString, this::failure);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Array counterpart of {@link #parseLazyObject(String)}.
+     */
+    public JSONArray parseLazyArray(String jsonString) {
+        try {
+            return LazyDocument.parseArray(objectMapper.getFactory(), jsonString, this::failure);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public <T> Stream<T> streamArray(InputStream is, Class<T> clazz) {
+        try {
+            StreamingArrayIterator<T> iterator = new StreamingArrayIterator<>(
+                    objectMapper.getFactory().createParser(is), codecCache.reader(clazz), this::failure);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                    .onClose(iterator::close);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Decodes a newline-delimited JSON file with one value per line, the file is memory-mapped, cut into chunks on
+     * line boundaries and the chunks are decoded by {@code parallelism} worker threads. Values come out in file order.
+     * Close the stream to stop early, the workers and the file are released once it is fully consumed.
+     */
+    public <T> Stream<T> parseLines(Path path, Class<T> clazz, int parallelism) {
+        return parseLines(path, clazz, parallelism, true);
+    }
+
+    /**
+     * @param ordered whether values keep file order, otherwise a chunk is handed out as soon as it is decoded
+     */
+    public <T> Stream<T> parseLines(Path path, Class<T> clazz, int parallelism, boolean ordered) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            ParallelLineIterator<T> iterator = new ParallelLineIterator<>(
+                    channel, codecCache.reader(clazz), parallelism, ordered, this::failure);
+            int characteristics = ordered ? Spliterator.ORDERED : 0;
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false)
+                    .onClose(iterator::close);
+        } catch (Exception e) {
+            closeQuietly(channel);
+            throw failure(e);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException ignore) {
+            // 已经在处理打开失败的异常
+        }
+    }
+
+    /**
+     * Creates a decoder that is fed chunks of content and emits every top-level value as soon as it is complete.
+     */
+    public <T> JSONAsyncDecoder<T> newAsyncDecoder(Class<T> clazz) {
+        return newAsyncDecoder(clazz, false);
+    }
+
+    /**
+     * Creates a decoder that emits the elements of top-level arrays as soon as each of them is complete.
+     */
+    public <T> JSONAsyncDecoder<T> newAsyncArrayDecoder(Class<T> clazz) {
+        return newAsyncDecoder(clazz, true);
+    }
+
+    private <T> JSONAsyncDecoder<T> newAsyncDecoder(Class<T> clazz, boolean elements) {
+        try {
+            return new JSONAsyncDecoder<>(objectMapper, codecCache.reader(clazz), elements, this::failure);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Reads the value at a path such as {@code $.order.items[3].sku} from the token stream, subtrees off the path are
+     * skipped and parsing stops once the value is found. Objects and arrays are returned as {@link JSONObject} and
+     * {@link JSONArray}. Because of that an object that repeats a key on the path resolves to its first occurrence,
+     * while {@link #parseObject(String)} keeps the last one.
+     *
+     * @return the value, or {@code null} when the path does not exist
+     */
+    public Object extract(String json, String path) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return extract(parser, path);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public Object extract(byte[] json, String path) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return extract(parser, path);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public <T> T extract(String json, String path, Class<T> clazz) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return extract(parser, path, clazz);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public <T> T extract(byte[] json, String path, Class<T> clazz) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return extract(parser, path, clazz);
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    public String extractString(String json, String path) {
+        return TypeUtils.castToString(extract(json, path));
+    }
+
+    public String extractString(byte[] json, String path) {
+        return TypeUtils.castToString(extract(json, path));
+    }
+
+    public Long extractLong(String json, String path) {
+        return TypeUtils.castToLong(extract(json, path));
+    }
+
+    public Long extractLong(byte[] json, String path) {
+        return TypeUtils.castToLong(extract(json, path));
+    }
+
+    public Integer extractInteger(String json, String path) {
+        return TypeUtils.castToInt(extract(json, path));
+    }
+
+    public Integer extractInteger(byte[] json, String path) {
+        return TypeUtils.castToInt(extract(json, path));
+    }
+
+    public Double extractDouble(String json, String path) {
+        return TypeUtils.castToDouble(extract(json, path));
+    }
+
+    public Double extractDouble(byte[] json, String path) {
+        return TypeUtils.castToDouble(extract(json, path));
+    }
+
+    public Boolean extractBoolean(String json, String path) {
+        return TypeUtils.castToBoolean(extract(json, path));
+    }
+
+    public Boolean extractBoolean(byte[] json, String path) {
+        return TypeUtils.castToBoolean(extract(json, path));
+    }
+
+    private Object extract(JsonParser parser, String path) throws IOException {
+        JsonToken token = JsonPath.compile(path).moveTo(parser);
+        if (token == null) {
+            return null;
+        }
+        switch (token) {
+            case START_OBJECT:
+                return codecCache.reader(JSONObject.class).readValue(parser);
+            case START_ARRAY:
+                return codecCache.reader(JSONArray.class).readValue(parser);
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private <T> T extract(JsonParser parser, String path, Class<T> clazz) throws IOException {
+        JsonToken token = JsonPath.compile(path).moveTo(parser);
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return codecCache.reader(clazz).readValue(parser);
+    }
+
+    /**
+     * Parses without throwing, failures are reported through the result as lightweight exceptions.
+     */
+    public ParseResult<JSONObject> tryParseObject(String jsonString) {
+        return tryParseObject(jsonString, JSONObject.class);
+    }
+
+    public <T> ParseResult<T> tryParseObject(String jsonString, Class<T> clazz) {
+        try {
+            return ParseResult.success(codecCache.reader(clazz).<T>readValue(jsonString));
+        } catch (Exception e) {
+            return ParseResult.failure(JSONException.lightweight(e, config.isErrorLocation()));
+        }
+    }
+
+    private JSONException failure(Exception e) {
+        if (config.isLightweightExceptions()) {
+            return JSONException.lightweight(e, config.isErrorLocation());
+        }
+        if (e instanceof JSONException) {
+            return (JSONException) e;
+        }
+        return new JSONException(e);
+    }
+
+    public <T> T toJavaObject(Object value, Class<T> clazz) {
+        try {
+            TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+            codecCache.writer(value).writeValue(buffer, value);
+            try (JsonParser parser = buffer.asParser()) {
+                return codecCache.reader(clazz).readValue(parser);
+            }
+        } catch (Exception e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Checks that the text is exactly one syntactically valid JSON value, the content is streamed without building
+     * a tree.
+     */
+    public boolean isValid(String str) {
+        if (str == null) {
+            return false;
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(str)) {
+            if (parser.nextToken() == null) {
+                return false;
+            }
+            parser.skipChildren();
+            return parser.nextToken() == null;
+        } catch (Exception ignore) {
+            return false;
+        }
+    }
+
+    public CodecCache.Stats cacheStats() {
+        return codecCache.stats();
+    }
+}
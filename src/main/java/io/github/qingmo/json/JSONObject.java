@@ -23,15 +23,22 @@
  */
 package io.github.qingmo.json;
 
+import io.github.qingmo.json.internal.CompactMap;
 import io.github.qingmo.json.internal.TypeUtils;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * The conversion and serialization helpers ({@link #toJSONString()}, {@link #getObject(String, Class)},
+ * {@link #toJavaObject(Class)}, {@link #getJSONObject(String)}, {@link #getJSONArray(String)}) always go through the
+ * static {@link JSON} facade and its default configuration, also for objects a {@link JSONMapper} produced. Use
+ * {@link JSONMapper#toJSONString(Object)} and {@link JSONMapper#toJavaObject(Object, Class)} to apply a mapper's
+ * settings.
+ */
 public class JSONObject implements Map<String, Object> {
 
     private Map<String, Object> map;
@@ -41,11 +48,18 @@ public class JSONObject implements Map<String, Object> {
     }
 
     public JSONObject() {
-        this.map = new HashMap<>();
+        this.map = new CompactMap<>();
     }
 
     public JSONObject(Integer size) {
-        this.map = new HashMap<>(size);
+        this.map = new CompactMap<>(size, false);
+    }
+
+    /**
+     * @param ordered whether iteration keeps insertion order at any size
+     */
+    public JSONObject(boolean ordered) {
+        this.map = new CompactMap<>(ordered);
     }
 
     public String toJSONString() {
@@ -74,13 +88,12 @@ public class JSONObject implements Map<String, Object> {
         return JSON.parseArray(JSON.toJSONString(value));
     }
 
-
     public <T> T getObject(String key, Class<T> clazz) {
         Object obj = map.get(key);
         if (obj == null) {
             return null;
         }
-        return JSON.parseObject(JSON.toJSONString(obj), clazz);
+        return JSON.toJavaObject(obj, clazz);
     }
 
     public Boolean getBoolean(String key) {
@@ -91,13 +104,9 @@ public class JSONObject implements Map<String, Object> {
         return TypeUtils.castToBoolean(value);
     }
 
-    public Boolean getBooleanValue(String key) {
+    public boolean getBooleanValue(String key) {
         Object value = map.get(key);
-        try {
-            return TypeUtils.castToBoolean(value);
-        } catch (Exception ignore) {
-            return false;
-        }
+        return TypeUtils.tryCastToBooleanValue(value, false);
     }
 
     public Byte getByte(String key) {
@@ -105,13 +114,9 @@ public class JSONObject implements Map<String, Object> {
         return TypeUtils.castToByte(value);
     }
 
-    public Byte getByteValue(String key) {
+    public byte getByteValue(String key) {
         Object value = map.get(key);
-        try {
-            return TypeUtils.castToByte(value);
-        } catch (Exception ignore) {
-            return (byte) 0;
-        }
+        return TypeUtils.tryCastToByteValue(value, (byte) 0);
     }
 
     public Short getShort(String key) {
@@ -119,13 +124,9 @@ public class JSONObject implements Map<String, Object> {
         return TypeUtils.castToShort(value);
     }
 
-    public Short getShortValue(String key) {
+    public short getShortValue(String key) {
         Object value = map.get(key);
-        try {
-            return TypeUtils.castToShort(value);
-        } catch (Exception ignore) {
-            return (short) 0;
-        }
+        return TypeUtils.tryCastToShortValue(value, (short) 0);
     }
 
     public Integer getInteger(String key) {
@@ -133,13 +134,9 @@ public class JSONObject implements Map<String, Object> {
         return TypeUtils.castToInt(value);
     }
 
-    public Integer getIntValue(String key) {
+    public int getIntValue(String key) {
         Object value = map.get(key);
-        try {
-            return TypeUtils.castToInt(value);
-        } catch (Exception ignore) {
-            return 0;
-        }
+        return TypeUtils.tryCastToIntValue(value, 0);
     }
 
     public Long getLong(String key) {
@@ -147,13 +144,9 @@ public class JSONObject implements Map<String, Object> {
         return TypeUtils.castToLong(value);
     }
 
-    public Long getLongValue(String key) {
+    public long getLongValue(String key) {
         Object value = map.get(key);
-        try {
-            return TypeUtils.castToLong(value);
-        } catch (Exception ignore) {
-            return 0L;
-        }
+        return TypeUtils.tryCastToLongValue(value, 0L);
     }
 
     public Float getFloat(String key) {
@@ -161,13 +154,9 @@ public class JSONObject implements Map<String, Object> {
         return TypeUtils.castToFloat(value);
     }
 
-    public Float getFloatValue(String key) {
+    public float getFloatValue(String key) {
         Object value = map.get(key);
-        try {
-            return TypeUtils.castToFloat(value);
-        } catch (Exception ignore) {
-            return 0f;
-        }
+        return TypeUtils.tryCastToFloatValue(value, 0f);
     }
 
     public Double getDouble(String key) {
@@ -175,13 +164,9 @@ public class JSONObject implements Map<String, Object> {
         return TypeUtils.castToDouble(value);
     }
 
-    public Double getDoubleValue(String key) {
+    public double getDoubleValue(String key) {
         Object value = map.get(key);
-        try {
-            return TypeUtils.castToDouble(value);
-        } catch (Exception ignore) {
-            return 0.0;
-        }
+        return TypeUtils.tryCastToDoubleValue(value, 0.0);
     }
 
     public BigDecimal getBigDecimal(String key) {
@@ -206,7 +191,7 @@ public class JSONObject implements Map<String, Object> {
         if (clazz == Map.class || clazz == JSONObject.class) {
             return (T) this;
         } else {
-            return JSON.parseObject(toJSONString(), clazz);
+            return JSON.toJavaObject(this.map, clazz);
         }
     }
 
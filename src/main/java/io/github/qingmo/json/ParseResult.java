@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json;
+
+import io.github.qingmo.json.exception.JSONException;
+
+/**
+ * Outcome of a non-throwing parse, either the parsed value or the failure.
+ */
+public final class ParseResult<T> {
+    private final T value;
+    private final JSONException error;
+
+    private ParseResult(T value, JSONException error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    static <T> ParseResult<T> success(T value) {
+        return new ParseResult<>(value, null);
+    }
+
+    static <T> ParseResult<T> failure(JSONException error) {
+        return new ParseResult<>(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * @return the parsed value, {@code null} when parsing failed or the content is {@code null}
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return the failure, {@code null} when parsing succeeded
+     */
+    public JSONException getError() {
+        return error;
+    }
+
+    public T orElse(T other) {
+        return isSuccess() ? value : other;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "ParseResult{value=" + value + "}" : "ParseResult{error=" + error.getMessage() + "}";
+    }
+}
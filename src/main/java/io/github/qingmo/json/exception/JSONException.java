@@ -23,17 +23,73 @@
  */
 package io.github.qingmo.json.exception;
 
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 public class JSONException extends RuntimeException {
+    private final int line;
+    private final int column;
 
     public JSONException(String message) {
         super(message);
+        this.line = -1;
+        this.column = -1;
     }
 
     public JSONException(String message, Throwable cause) {
         super(message, cause);
+        this.line = -1;
+        this.column = -1;
     }
 
     public JSONException(Throwable cause) {
         super(cause.getMessage(), cause);
+        this.line = -1;
+        this.column = -1;
+    }
+
+    private JSONException(String message, int line, int column) {
+        super(message, null, false, false);
+        this.line = line;
+        this.column = column;
+    }
+
+    /**
+     * Creates an exception without stack trace and cause, it only keeps the message and, when {@code withLocation} is
+     * set, the line and column of the failure. This saves the second stack trace only, Jackson has already built its
+     * own exception with a full one by the time it is converted.
+     * <p>
+     * With {@code withLocation} the message is Jackson's full message, which embeds an excerpt of the input around
+     * the failure, so the payload may end up in logs. Without it only Jackson's original message is kept and the
+     * location text is never formatted.
+     */
+    public static JSONException lightweight(Throwable cause, boolean withLocation) {
+        if (cause instanceof JSONException) {
+            JSONException e = (JSONException) cause;
+            return new JSONException(e.getMessage(), withLocation ? e.line : -1, withLocation ? e.column : -1);
+        }
+        if (cause instanceof JsonProcessingException) {
+            JsonProcessingException e = (JsonProcessingException) cause;
+            JsonLocation location = e.getLocation();
+            if (withLocation && location != null) {
+                return new JSONException(e.getMessage(), location.getLineNr(), location.getColumnNr());
+            }
+            return new JSONException(e.getOriginalMessage(), -1, -1);
+        }
+        return new JSONException(cause.getMessage(), -1, -1);
+    }
+
+    /**
+     * @return the line of the failure, or -1 when unknown
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * @return the column of the failure, or -1 when unknown
+     */
+    public int getColumn() {
+        return column;
     }
 }
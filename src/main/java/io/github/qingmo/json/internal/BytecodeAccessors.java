@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+/**
+ * Registers Jackson Afterburner. The module is an optional dependency, it is only referenced from a nested class
+ * that is loaded once {@link #isAvailable()} has found it on the class path.
+ */
+public final class BytecodeAccessors {
+    private static final String MODULE_CLASS = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+    private static final boolean AVAILABLE = detect();
+
+    private BytecodeAccessors() {
+        throw new UnsupportedOperationException("can not instance static class");
+    }
+
+    private static boolean detect() {
+        try {
+            Class.forName(MODULE_CLASS, false, BytecodeAccessors.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static void register(ObjectMapper objectMapper) {
+        Afterburner.register(objectMapper);
+    }
+
+    private static final class Afterburner {
+        static void register(ObjectMapper objectMapper) {
+            AfterburnerModule afterburnerModule = new AfterburnerModule();
+            // 生成的类不放进目标类的 ClassLoader, 避免在 Java 9+ 上因模块访问限制失败
+            afterburnerModule.setUseValueClassLoader(false);
+            objectMapper.registerModule(afterburnerModule);
+        }
+    }
+}
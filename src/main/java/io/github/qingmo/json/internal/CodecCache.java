@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of prebuilt {@link ObjectReader}/{@link ObjectWriter} instances, so the root (de)serializer of a hot
+ * type is resolved once. Lookups do not lock, once {@code capacity} entries are cached a new one evicts an entry
+ * that has not been used since the eviction clock last passed it (second chance), so hot types stay cached.
+ */
+public final class CodecCache {
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final ConcurrentMap<Object, Slot<ObjectReader>> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Slot<ObjectReader>> listReaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Slot<ObjectWriter>> writers = new ConcurrentHashMap<>();
+    // 按加入顺序排队, 淘汰时跳过最近用过的条目, 由自身加锁保护
+    private final ArrayDeque<Slot<?>> clock = new ArrayDeque<>();
+    private final ObjectWriter defaultWriter;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CodecCache(ObjectMapper objectMapper, int capacity) {
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        // 写入调用方的输出流后不关闭它
+        this.defaultWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public ObjectReader reader(Class<?> clazz) {
+        ObjectReader reader = lookup(readers, clazz);
+        return reader != null ? reader : cache(readers, clazz, objectMapper.readerFor(clazz));
+    }
+
+    public ObjectReader reader(JavaType javaType) {
+        ObjectReader reader = lookup(readers, javaType);
+        return reader != null ? reader : cache(readers, javaType, objectMapper.readerFor(javaType));
+    }
+
+    public ObjectReader listReader(Class<?> elementType) {
+        ObjectReader reader = lookup(listReaders, elementType);
+        if (reader != null) {
+            return reader;
+        }
+        JavaType javaType = objectMapper.getTypeFactory().constructParametricType(List.class, elementType);
+        return cache(listReaders, elementType, objectMapper.readerFor(javaType));
+    }
+
+    public ObjectWriter writer(Object value) {
+        if (value == null) {
+            return defaultWriter;
+        }
+        return writer(value.getClass());
+    }
+
+    public ObjectWriter writer(Class<?> clazz) {
+        ObjectWriter writer = lookup(writers, clazz);
+        return writer != null ? writer : cache(writers, clazz, defaultWriter.forType(clazz));
+    }
+
+    /**
+     * Builds the reader, list reader and writer of the type ahead of its first use.
+     */
+    public void prewarm(Class<?> type) {
+        reader(type);
+        listReader(type);
+        writer(type);
+    }
+
+    public int size() {
+        return readers.size() + listReaders.size() + writers.size();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), size());
+    }
+
+    private <K, V> V lookup(ConcurrentMap<K, Slot<V>> map, K key) {
+        Slot<V> slot = map.get(key);
+        if (slot == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        // 已经标记过就不再写, 避免热点条目上的无谓写入
+        if (!slot.referenced) {
+            slot.referenced = true;
+        }
+        return slot.value;
+    }
+
+    private <K, V> V cache(ConcurrentMap<K, Slot<V>> map, K key, V value) {
+        if (capacity == 0) {
+            return value;
+        }
+        Slot<V> slot = new Slot<>(map, key, value);
+        synchronized (clock) {
+            Slot<V> previous = map.putIfAbsent(key, slot);
+            if (previous != null) {
+                return previous.value;
+            }
+            clock.add(slot);
+            while (clock.size() > capacity) {
+                Slot<?> candidate = clock.poll();
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                    clock.add(candidate);
+                } else {
+                    candidate.evict();
+                }
+            }
+        }
+        return value;
+    }
+
+    private static final class Slot<V> {
+        private final ConcurrentMap<?, Slot<V>> map;
+        private final Object key;
+        private final V value;
+        // 只在命中时置位, 只用过一次的类型会先被淘汰
+        private volatile boolean referenced;
+
+        Slot(ConcurrentMap<?, Slot<V>> map, Object key, V value) {
+            this.map = map;
+            this.key = key;
+            this.value = value;
+        }
+
+        void evict() {
+            map.remove(key, this);
+        }
+    }
+
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final int size;
+
+        private Stats(long hitCount, long missCount, int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.size = size;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{hitCount=" + hitCount + ", missCount=" + missCount + ", size=" + size + '}';
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map for small objects, keys and values are kept side by side in one array and looked up by a linear scan, there
+ * is no per entry node and no hash table. Once it holds more than {@link #THRESHOLD} entries it moves them into a
+ * {@link HashMap}, or a {@link LinkedHashMap} when insertion order has to be kept. Iteration follows insertion order
+ * until then, so an unordered map switches to hash order when the entry past {@link #THRESHOLD} is added, the same
+ * unspecified order a plain {@link HashMap} gives.
+ */
+public final class CompactMap<K, V> extends AbstractMap<K, V> {
+    public static final int THRESHOLD = 8;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final boolean ordered;
+    // 偶数位置是 key, 紧随其后的是 value
+    private Object[] entries;
+    private int size;
+    private int modCount;
+    private Map<K, V> delegate;
+
+    public CompactMap() {
+        this(false);
+    }
+
+    /**
+     * @param ordered whether the map keeps insertion order after growing past {@link #THRESHOLD}, otherwise
+     *                iteration order is unspecified from then on
+     */
+    public CompactMap(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    public CompactMap(int expectedSize, boolean ordered) {
+        this.ordered = ordered;
+        if (expectedSize > THRESHOLD) {
+            this.delegate = newDelegate(expectedSize);
+        } else if (expectedSize > 0) {
+            this.entries = new Object[expectedSize << 1];
+        }
+    }
+
+    private Map<K, V> newDelegate(int expectedSize) {
+        int capacity = Math.max(16, (int) (expectedSize / 0.75f) + 1);
+        return ordered ? new LinkedHashMap<>(capacity) : new HashMap<>(capacity);
+    }
+
+    private int indexOf(Object key) {
+        Object[] entries = this.entries;
+        for (int i = 0, end = size << 1; i < end; i += 2) {
+            Object k = entries[i];
+            if (k == key || (key != null && key.equals(k))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return delegate != null ? delegate.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate != null ? delegate.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (delegate != null) {
+            return delegate.get(key);
+        }
+        int index = indexOf(key);
+        return index < 0 ? null : (V) entries[index + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (delegate != null) {
+            return delegate.put(key, value);
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            V old = (V) entries[index + 1];
+            entries[index + 1] = value;
+            return old;
+        }
+        if (size == THRESHOLD) {
+            Map<K, V> map = newDelegate(THRESHOLD + 1);
+            for (int i = 0, end = size << 1; i < end; i += 2) {
+                map.put((K) entries[i], (V) entries[i + 1]);
+            }
+            map.put(key, value);
+            delegate = map;
+            entries = null;
+            size = 0;
+            modCount++;
+            return null;
+        }
+        if (entries == null) {
+            entries = new Object[INITIAL_CAPACITY << 1];
+        } else if (size << 1 == entries.length) {
+            Object[] grown = new Object[Math.min(entries.length << 1, THRESHOLD << 1)];
+            System.arraycopy(entries, 0, grown, 0, entries.length);
+            entries = grown;
+        }
+        entries[size << 1] = key;
+        entries[(size << 1) + 1] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (delegate != null) {
+            return delegate.remove(key);
+        }
+        int index = indexOf(key);
+        return index < 0 ? null : removeAt(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V removeAt(int index) {
+        V old = (V) entries[index + 1];
+        int end = size << 1;
+        System.arraycopy(entries, index + 2, entries, index, end - index - 2);
+        entries[end - 2] = null;
+        entries[end - 1] = null;
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        delegate = null;
+        entries = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return delegate != null ? delegate.entrySet().iterator() : new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return CompactMap.this.size();
+            }
+
+            @Override
+            public void clear() {
+                CompactMap.this.clear();
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private int cursor;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            last = cursor++;
+            return new ArrayEntry(last << 1);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last << 1);
+            cursor = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Entry bound to its key rather than to a slot, removals shift the array so the slot is checked on every access.
+     * Once the key is gone from the map the entry keeps its last value and writes to it no longer reach the map.
+     */
+    private final class ArrayEntry implements Entry<K, V> {
+        private final K key;
+        private int index;
+        private V value;
+
+        @SuppressWarnings("unchecked")
+        ArrayEntry(int index) {
+            this.index = index;
+            this.key = (K) entries[index];
+            this.value = (V) entries[index + 1];
+        }
+
+        // 删除会移动数组, 先确认原位置上还是这个 key
+        private int slot() {
+            if (delegate != null || index < 0) {
+                return -1;
+            }
+            if (index < size << 1 && entries[index] == key) {
+                return index;
+            }
+            index = indexOf(key);
+            return index;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            int slot = slot();
+            if (slot >= 0) {
+                value = (V) entries[slot + 1];
+            } else if (delegate != null && delegate.containsKey(key)) {
+                value = delegate.get(key);
+            }
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            V old = getValue();
+            int slot = index;
+            if (delegate == null && slot >= 0) {
+                entries[slot + 1] = value;
+            } else if (delegate != null && delegate.containsKey(key)) {
+                delegate.put(key, value);
+            }
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.qingmo.json.JSONArray;
+import io.github.qingmo.json.JSONObject;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decodes a {@link JSONArray} whose object elements share their key layout: elements built with the same keys in the
+ * same order point at one {@link Shape} and only hold an array of values.
+ */
+public final class JSONArrayDeserializer extends StdDeserializer<JSONArray> {
+
+    public JSONArrayDeserializer() {
+        super(JSONArray.class);
+    }
+
+    @Override
+    public JSONArray deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartArrayToken()) {
+            return (JSONArray) ctxt.handleUnexpectedToken(JSONArray.class, p);
+        }
+        JsonDeserializer<Object> untyped = ctxt.findRootValueDeserializer(ctxt.constructType(Object.class));
+        // 纯数值数组保存在基本类型数组中
+        List<Object> list = new NumericList();
+        Shape root = Shape.root();
+        // 同一个数组内的元素复用这块缓冲区, 每个对象最终只保留精确大小的值数组
+        Object[] buffer = new Object[16];
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                list.add(untyped.deserialize(p, ctxt));
+                continue;
+            }
+            Shape shape = root;
+            int size = 0;
+            for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+                p.nextToken();
+                Object value = untyped.deserialize(p, ctxt);
+                int index = shape.indexOf(key);
+                if (index >= 0) {
+                    buffer[index] = value;
+                    continue;
+                }
+                shape = shape.transition(key);
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size << 1);
+                }
+                buffer[size++] = value;
+            }
+            list.add(new JSONObject(new ShapedMap(shape, Arrays.copyOf(buffer, size))));
+        }
+        return JSONArray.wrap(list);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.qingmo.json.exception.JSONException;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled path such as {@code $.order.items[3].sku} or {@code $['order']['items'][3]}, it is resolved against the
+ * token stream without building a tree.
+ */
+public final class JsonPath {
+    private static final int CACHE_CAPACITY = 1024;
+    private static final ConcurrentHashMap<String, JsonPath> CACHE = new ConcurrentHashMap<>();
+    // 与 CodecCache 相同的二次机会淘汰, 由自身加锁保护
+    private static final ArrayDeque<JsonPath> CLOCK = new ArrayDeque<>();
+
+    private final String path;
+    // 字段名为 null 的段表示数组下标
+    private final String[] names;
+    private final int[] indexes;
+    // 只在缓存命中时置位, 只用过一次的路径会先被淘汰
+    private volatile boolean referenced;
+
+    private JsonPath(String path, String[] names, int[] indexes) {
+        this.path = path;
+        this.names = names;
+        this.indexes = indexes;
+    }
+
+    public static JsonPath compile(String path) {
+        if (path == null) {
+            throw new JSONException("json path can not be null");
+        }
+        JsonPath compiled = CACHE.get(path);
+        if (compiled != null) {
+            if (!compiled.referenced) {
+                compiled.referenced = true;
+            }
+            return compiled;
+        }
+        return cache(parse(path));
+    }
+
+    private static JsonPath cache(JsonPath compiled) {
+        synchronized (CLOCK) {
+            JsonPath previous = CACHE.putIfAbsent(compiled.path, compiled);
+            if (previous != null) {
+                return previous;
+            }
+            CLOCK.add(compiled);
+            while (CLOCK.size() > CACHE_CAPACITY) {
+                JsonPath candidate = CLOCK.poll();
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                    CLOCK.add(candidate);
+                } else {
+                    CACHE.remove(candidate.path, candidate);
+                }
+            }
+        }
+        return compiled;
+    }
+
+    private static JsonPath parse(String path) {
+        if (path.isEmpty() || path.charAt(0) != '$') {
+            throw invalid(path);
+        }
+        List<String> names = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        int i = 1;
+        int len = path.length();
+        while (i < len) {
+            char ch = path.charAt(i);
+            if (ch == '.') {
+                int start = ++i;
+                while (i < len && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                    i++;
+                }
+                if (i == start) {
+                    throw invalid(path);
+                }
+                names.add(path.substring(start, i));
+                indexes.add(-1);
+            } else if (ch == '[') {
+                int close;
+                char quote = i + 1 < len ? path.charAt(i + 1) : 0;
+                if (quote == '\'' || quote == '"') {
+                    int end = path.indexOf(quote, i + 2);
+                    if (end < 0 || end + 1 >= len || path.charAt(end + 1) != ']') {
+                        throw invalid(path);
+                    }
+                    names.add(path.substring(i + 2, end));
+                    indexes.add(-1);
+                    close = end + 1;
+                } else {
+                    close = path.indexOf(']', i);
+                    if (close < 0) {
+                        throw invalid(path);
+                    }
+                    names.add(null);
+                    indexes.add(parseIndex(path, i + 1, close));
+                }
+                i = close + 1;
+            } else {
+                throw invalid(path);
+            }
+        }
+        int[] indexArray = new int[indexes.size()];
+        for (int j = 0; j < indexArray.length; j++) {
+            indexArray[j] = indexes.get(j);
+        }
+        return new JsonPath(path, names.toArray(new String[0]), indexArray);
+    }
+
+    private static int parseIndex(String path, int start, int end) {
+        if (start == end || end - start > 9) {
+            throw invalid(path);
+        }
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char ch = path.charAt(i);
+            if (ch < '0' || ch > '9') {
+                throw invalid(path);
+            }
+            index = index * 10 + (ch - '0');
+        }
+        return index;
+    }
+
+    private static JSONException invalid(String path) {
+        return new JSONException("invalid json path: " + path);
+    }
+
+    /**
+     * Advances the parser to the value the path points at, subtrees that can not match are skipped. The first field
+     * with a matching name is taken, later duplicates of the key are never read.
+     *
+     * @return the first token of the value, or {@code null} when the path does not exist
+     */
+    public JsonToken moveTo(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        for (int i = 0; i < names.length && token != null; i++) {
+            token = names[i] != null ? moveToField(parser, token, names[i]) : moveToIndex(parser, token, indexes[i]);
+        }
+        return token;
+    }
+
+    private static JsonToken moveToField(JsonParser parser, JsonToken token, String name) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(field)) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private static JsonToken moveToIndex(JsonParser parser, JsonToken token, int index) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            return null;
+        }
+        for (int i = 0; ; i++) {
+            JsonToken value = parser.nextToken();
+            if (value == null || value == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (i == index) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
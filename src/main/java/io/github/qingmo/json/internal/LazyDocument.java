@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.qingmo.json.JSONArray;
+import io.github.qingmo.json.JSONObject;
+import io.github.qingmo.json.exception.JSONException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Function;
+
+/**
+ * The source text of a lazily parsed document. Objects and arrays only keep an index of where their members start,
+ * a member is decoded the first time it is read by a parser reading straight from the source string.
+ */
+public final class LazyDocument {
+    private final JsonFactory factory;
+    private final String json;
+    private final Function<Exception, JSONException> failure;
+
+    private LazyDocument(JsonFactory factory, String json, Function<Exception, JSONException> failure) {
+        this.factory = factory;
+        this.json = json;
+        this.failure = failure;
+    }
+
+    /**
+     * @param failure converts decode failures of members read later on, the same way the mapper reports them
+     */
+    public static JSONObject parseObject(JsonFactory factory, String json, Function<Exception, JSONException> failure)
+            throws IOException {
+        Object value = parse(factory, json, JsonToken.START_OBJECT, failure);
+        return (JSONObject) value;
+    }
+
+    public static JSONArray parseArray(JsonFactory factory, String json, Function<Exception, JSONException> failure)
+            throws IOException {
+        Object value = parse(factory, json, JsonToken.START_ARRAY, failure);
+        return (JSONArray) value;
+    }
+
+    private static Object parse(JsonFactory factory, String json, JsonToken expected,
+                                Function<Exception, JSONException> failure) throws IOException {
+        LazyDocument document = new LazyDocument(factory, json, failure);
+        try (JsonParser parser = document.parser(0)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new JSONException("can not parse lazily, no content");
+            }
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token != expected) {
+                throw new JSONException("can not parse lazily, unexpected token " + token);
+            }
+            return document.container(parser, token, 0);
+        }
+    }
+
+    Object decode(int offset) {
+        try (JsonParser parser = parser(offset, valueEnd(offset))) {
+            JsonToken token = parser.nextToken();
+            switch (token) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    return container(parser, token, offset - (int) parser.getTokenLocation().getCharOffset());
+                case VALUE_STRING:
+                    return parser.getText();
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    return parser.getNumberValue();
+                case VALUE_TRUE:
+                    return Boolean.TRUE;
+                case VALUE_FALSE:
+                    return Boolean.FALSE;
+                case VALUE_NULL:
+                    return null;
+                default:
+                    throw new JSONException("can not decode lazily, unexpected token " + token);
+            }
+        } catch (IOException e) {
+            throw failure.apply(e);
+        }
+    }
+
+    private JsonParser parser(int offset) throws IOException {
+        return parser(offset, json.length());
+    }
+
+    private JsonParser parser(int offset, int end) throws IOException {
+        return factory.createParser(new RangeReader(json, offset, end));
+    }
+
+    // 数字作为根值时解析器要求其后是空白, 因此只把数字本身交给解析器
+    private int valueEnd(int offset) {
+        char first = json.charAt(offset);
+        if (first != '-' && (first < '0' || first > '9')) {
+            return json.length();
+        }
+        int end = offset + 1;
+        while (end < json.length() && isNumberChar(json.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean isNumberChar(char ch) {
+        return (ch >= '0' && ch <= '9') || ch == '.' || ch == 'e' || ch == 'E' || ch == '+' || ch == '-';
+    }
+
+    // base 用于把解析器报告的偏移量换算成 json 的下标, 子区间解析器的偏移量从区间起点算起
+    private Object container(JsonParser parser, JsonToken token, int base) throws IOException {
+        if (token == JsonToken.START_OBJECT) {
+            LazyJSONMap map = new LazyJSONMap(this);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                parser.nextToken();
+                map.index(key, base + (int) parser.getTokenLocation().getCharOffset());
+                parser.skipChildren();
+            }
+            return new JSONObject(map);
+        }
+        LazyJSONList list = new LazyJSONList(this);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.index(base + (int) parser.getTokenLocation().getCharOffset());
+            parser.skipChildren();
+        }
+        return JSONArray.wrap(list);
+    }
+
+    /**
+     * Reads a range of the source string without copying it.
+     */
+    private static final class RangeReader extends Reader {
+        private final String source;
+        private final int end;
+        private int position;
+
+        RangeReader(String source, int start, int end) {
+            this.source = source;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position >= end) {
+                return -1;
+            }
+            int count = Math.min(length, end - position);
+            source.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            // 没有需要释放的资源
+        }
+    }
+}
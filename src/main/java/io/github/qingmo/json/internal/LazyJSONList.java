@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * List view of a lazily parsed array. The first structural change copies all elements into an {@link ArrayList}
+ * that backs the list from then on. Decoded elements are published the same way as in {@link LazyJSONMap}.
+ */
+final class LazyJSONList extends AbstractList<Object> implements RandomAccess {
+    private static final Object NULL = new Object();
+
+    private final LazyDocument document;
+    private int[] offsets = new int[8];
+    private AtomicReferenceArray<Object> values = new AtomicReferenceArray<>(8);
+    private int size;
+    private List<Object> materialized;
+
+    LazyJSONList(LazyDocument document) {
+        this.document = document;
+    }
+
+    void index(int offset) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size << 1);
+            values = new AtomicReferenceArray<>(size << 1);
+        }
+        offsets[size] = offset;
+        size++;
+    }
+
+    private List<Object> materialize() {
+        if (materialized == null) {
+            List<Object> list = new ArrayList<>(Math.max(10, size));
+            for (int i = 0; i < size; i++) {
+                list.add(get(i));
+            }
+            materialized = list;
+        }
+        return materialized;
+    }
+
+    @Override
+    public Object get(int index) {
+        if (materialized != null) {
+            return materialized.get(index);
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Object value = values.get(index);
+        if (value == null) {
+            Object decoded = document.decode(offsets[index]);
+            value = decoded == null ? NULL : decoded;
+            if (!values.compareAndSet(index, null, value)) {
+                value = values.get(index);
+            }
+        }
+        return value == NULL ? null : value;
+    }
+
+    @Override
+    public int size() {
+        return materialized != null ? materialized.size() : size;
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        return materialize().set(index, element);
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        modCount++;
+        materialize().add(index, element);
+    }
+
+    @Override
+    public Object remove(int index) {
+        modCount++;
+        return materialize().remove(index);
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        materialize().clear();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Map view of a lazily parsed object, keys keep their document order. The first structural change copies all
+ * members into a {@link LinkedHashMap} that backs the map from then on. Decoded members are published through an
+ * {@link AtomicReferenceArray}, so concurrent reads of a map nobody modifies are safe and every reader sees the same
+ * decoded value, even if two threads happened to decode it at the same time.
+ */
+final class LazyJSONMap extends AbstractMap<String, Object> {
+    // 槽位为 null 表示尚未解码, 解码结果为 null 时保存为 NULL
+    private static final Object NULL = new Object();
+
+    private final LazyDocument document;
+    private String[] keys = new String[8];
+    private int[] offsets = new int[8];
+    private AtomicReferenceArray<Object> values = new AtomicReferenceArray<>(8);
+    private int[] table = new int[16];
+    private int size;
+    private Map<String, Object> materialized;
+
+    LazyJSONMap(LazyDocument document) {
+        this.document = document;
+    }
+
+    void index(String key, int offset) {
+        int slot = slot(key);
+        if (table[slot] != 0) {
+            // 重复的 key 与 eager 解析一致, 后出现的值覆盖先出现的值
+            offsets[table[slot] - 1] = offset;
+            return;
+        }
+        if (size == keys.length) {
+            int capacity = size << 1;
+            keys = Arrays.copyOf(keys, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            // 建立索引时还没有解码过任何值, 不需要复制
+            values = new AtomicReferenceArray<>(capacity);
+        }
+        keys[size] = key;
+        offsets[size] = offset;
+        size++;
+        table[slot] = size;
+        if (size << 1 > table.length) {
+            rehash(table.length << 1);
+        }
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            table[slot(keys[i])] = i + 1;
+        }
+    }
+
+    // 开放寻址, table 中保存 下标 + 1, 0 表示空槽
+    private int slot(Object key) {
+        int mask = table.length - 1;
+        int h = key.hashCode();
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (table[slot] != 0 && !keys[table[slot] - 1].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        return table[slot(key)] - 1;
+    }
+
+    private Object value(int index) {
+        Object value = values.get(index);
+        if (value == null) {
+            Object decoded = document.decode(offsets[index]);
+            value = decoded == null ? NULL : decoded;
+            if (!values.compareAndSet(index, null, value)) {
+                value = values.get(index);
+            }
+        }
+        return value == NULL ? null : value;
+    }
+
+    private Map<String, Object> materialize() {
+        if (materialized == null) {
+            Map<String, Object> map = new LinkedHashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+            for (int i = 0; i < size; i++) {
+                map.put(keys[i], value(i));
+            }
+            materialized = map;
+        }
+        return materialized;
+    }
+
+    @Override
+    public int size() {
+        return materialized != null ? materialized.size() : size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return materialized != null ? materialized.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (materialized != null) {
+            return materialized.get(key);
+        }
+        int index = indexOf(key);
+        return index < 0 ? null : value(index);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        materialize().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                if (materialized != null) {
+                    return materialized.entrySet().iterator();
+                }
+                return new IndexIterator();
+            }
+
+            @Override
+            public int size() {
+                return LazyJSONMap.this.size();
+            }
+        };
+    }
+
+    private final class IndexIterator implements Iterator<Entry<String, Object>> {
+        private int cursor;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            last = cursor++;
+            return new IndexEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            materialize().remove(keys[last]);
+            last = -1;
+        }
+    }
+
+    private final class IndexEntry implements Entry<String, Object> {
+        private final int index;
+
+        IndexEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return materialized != null ? materialized.get(keys[index]) : value(index);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return materialize().put(keys[index], value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return getKey().equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
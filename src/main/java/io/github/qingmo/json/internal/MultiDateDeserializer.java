@@ -25,12 +25,14 @@ package io.github.qingmo.json.internal;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import io.github.qingmo.json.exception.JSONException;
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.joda.time.format.ISODateTimeFormat;
 
 import java.io.IOException;
@@ -39,12 +41,15 @@ import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.TimeZone;
 
 public final class MultiDateDeserializer extends StdDeserializer<Date> {
     private static final List<String> DATE_FORMATS = Arrays.asList(
             "yyyy-MM-dd HH:mm:ss",
             "yyyy-MM-dd",
             "yyyyMMdd'T'HHmmss");
+    private static final long DAY_MILLIS = 86_400_000L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
 
     public MultiDateDeserializer() {
         super(Date.class);
@@ -62,20 +67,29 @@ public final class MultiDateDeserializer extends StdDeserializer<Date> {
                     "Unparseable date with empty ObjectCodec."
             );
         }
-        JsonNode node = codec.readTree(p);
-        if (node == null) {
-            throw new JsonParseException(
-                    p,
-                    "Unparseable date with empty value."
-            );
+        String dateStr;
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            dateStr = p.getText();
+        } else {
+            JsonNode node = codec.readTree(p);
+            if (node == null) {
+                throw new JsonParseException(
+                        p,
+                        "Unparseable date with empty value."
+                );
+            }
+            dateStr = node.textValue();
         }
-        String dateStr = node.textValue();
         if (dateStr == null || dateStr.trim().isEmpty()) {
             throw new JsonParseException(
                     p,
                     "Unparseable date with empty value."
             );
         }
+        Date date = parseKnownFormat(dateStr);
+        if (date != null) {
+            return date;
+        }
         try {
             DateTime parseDateTime = ISODateTimeFormat.dateTimeParser().parseDateTime(dateStr);
             return parseDateTime.toDate();
@@ -95,5 +109,147 @@ public final class MultiDateDeserializer extends StdDeserializer<Date> {
                 "Unparseable date: \"" + dateStr + "\". Supported formats: " + DATE_FORMATS
         );
     }
-}
 
+    /**
+     * Fast path for the common well-formed layouts, classified by length and separator positions. Returns
+     * {@code null} whenever the text is not one of them or lies outside the plainly valid ranges (lenient overflow,
+     * pre-Gregorian years, DST transitions), the general parsers above then decide exactly as before.
+     * <ul>
+     *     <li>ISO layouts resolve like joda's {@code dateTimeParser()}: explicit offset or the joda default zone</li>
+     *     <li>{@code yyyy-MM-dd HH:mm:ss} and {@code yyyyMMdd'T'HHmmss} resolve like {@link SimpleDateFormat}: the
+     *     JVM default {@link TimeZone}</li>
+     * </ul>
+     */
+    static Date parseKnownFormat(String str) {
+        int len = str.length();
+        if (len == 15) {
+            if (str.charAt(8) != 'T') {
+                return null;
+            }
+            return localDate(digits(str, 0, 4), digits(str, 4, 2), digits(str, 6, 2),
+                    digits(str, 9, 2), digits(str, 11, 2), digits(str, 13, 2));
+        }
+        if (len < 10 || str.charAt(4) != '-' || str.charAt(7) != '-') {
+            return null;
+        }
+        int year = digits(str, 0, 4);
+        int month = digits(str, 5, 2);
+        int day = digits(str, 8, 2);
+        if (len == 10) {
+            return isoDate(year, month, day, 0, 0, 0, 0, str, 10);
+        }
+        if (len < 19 || str.charAt(13) != ':' || str.charAt(16) != ':') {
+            return null;
+        }
+        int hour = digits(str, 11, 2);
+        int minute = digits(str, 14, 2);
+        int second = digits(str, 17, 2);
+        char separator = str.charAt(10);
+        if (separator == ' ') {
+            return len == 19 ? localDate(year, month, day, hour, minute, second) : null;
+        }
+        if (separator != 'T') {
+            return null;
+        }
+        if (len > 19 && str.charAt(19) == '.') {
+            if (len < 23) {
+                return null;
+            }
+            return isoDate(year, month, day, hour, minute, second, digits(str, 20, 3), str, 23);
+        }
+        return isoDate(year, month, day, hour, minute, second, 0, str, 19);
+    }
+
+    private static Date isoDate(int year, int month, int day, int hour, int minute, int second, int millis,
+                                String str, int zoneStart) {
+        if (!isValid(year, month, day, hour, minute, second) || millis < 0) {
+            return null;
+        }
+        long localMillis = localMillis(year, month, day, hour, minute, second) + millis;
+        int len = str.length();
+        if (len == zoneStart) {
+            // joda resolves a local time against its default zone and rejects times inside a DST gap
+            DateTimeZone zone = DateTimeZone.getDefault();
+            int offset = zone.getOffsetFromLocal(localMillis);
+            long instant = localMillis - offset;
+            return offset == zone.getOffset(instant) ? new Date(instant) : null;
+        }
+        if (len == zoneStart + 1 && str.charAt(zoneStart) == 'Z') {
+            return new Date(localMillis);
+        }
+        if (len == zoneStart + 6 && str.charAt(zoneStart + 3) == ':') {
+            char sign = str.charAt(zoneStart);
+            int offsetHours = digits(str, zoneStart + 1, 2);
+            int offsetMinutes = digits(str, zoneStart + 4, 2);
+            if ((sign != '+' && sign != '-') || offsetHours < 0 || offsetHours > 23
+                    || offsetMinutes < 0 || offsetMinutes > 59) {
+                return null;
+            }
+            long offset = (offsetHours * 60L + offsetMinutes) * 60_000L;
+            return new Date(sign == '+' ? localMillis - offset : localMillis + offset);
+        }
+        return null;
+    }
+
+    private static Date localDate(int year, int month, int day, int hour, int minute, int second) {
+        // SimpleDateFormat switches to the julian calendar before 1582, leave old dates to it
+        if (year < 1900 || !isValid(year, month, day, hour, minute, second)) {
+            return null;
+        }
+        long localMillis = localMillis(year, month, day, hour, minute, second);
+        TimeZone zone = TimeZone.getDefault();
+        int offset = zone.getOffset(localMillis - DAY_MILLIS);
+        if (offset != zone.getOffset(localMillis + DAY_MILLIS)) {
+            // close to an offset transition, the gap/overlap rules of GregorianCalendar apply
+            return null;
+        }
+        return new Date(localMillis - offset);
+    }
+
+    private static boolean isValid(int year, int month, int day, int hour, int minute, int second) {
+        return year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month)
+                && hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // proleptic gregorian days since 1970-01-01, see java.time.LocalDate#toEpochDay
+    private static long localMillis(int year, int month, int day, int hour, int minute, int second) {
+        long y = year;
+        long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!(year % 4 == 0 && (year % 100 != 0 || year % 400 == 0))) {
+                total--;
+            }
+        }
+        long epochDay = total - DAYS_0000_TO_1970;
+        return epochDay * DAY_MILLIS + ((hour * 60L + minute) * 60L + second) * 1000L;
+    }
+
+    private static int digits(String str, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return value;
+    }
+}
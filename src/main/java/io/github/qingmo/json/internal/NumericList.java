@@ -0,0 +1,351 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List that keeps content made only of {@link Integer}s, only of {@link Long}s or only of {@link Double}s in a
+ * growable primitive array, elements are boxed when they are read through the {@link List} API. Adding any other
+ * element, or a number of another type, moves the content into an {@link ArrayList} for good.
+ */
+public final class NumericList extends AbstractList<Object> implements RandomAccess {
+    static final byte EMPTY = 0;
+    static final byte INT = 1;
+    static final byte LONG = 2;
+    static final byte DOUBLE = 3;
+    static final byte OBJECT = 4;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private byte mode = EMPTY;
+    private int capacity;
+    private int size;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private ArrayList<Object> objects;
+
+    public NumericList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public NumericList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public NumericList(Collection<?> values) {
+        this(values.size());
+        addAll(values);
+    }
+
+    byte mode() {
+        return mode;
+    }
+
+    int[] ints() {
+        return ints;
+    }
+
+    long[] longs() {
+        return longs;
+    }
+
+    double[] doubles() {
+        return doubles;
+    }
+
+    List<Object> objects() {
+        return objects;
+    }
+
+    private static byte modeOf(Object element) {
+        // 只接受精确类型, 保证读出的装箱类型与写入时一致
+        if (element == null) {
+            return OBJECT;
+        }
+        Class<?> type = element.getClass();
+        if (type == Integer.class) {
+            return INT;
+        }
+        if (type == Long.class) {
+            return LONG;
+        }
+        if (type == Double.class) {
+            return DOUBLE;
+        }
+        return OBJECT;
+    }
+
+    private boolean accepts(Object element) {
+        if (mode == OBJECT) {
+            return false;
+        }
+        byte elementMode = modeOf(element);
+        if (elementMode == OBJECT) {
+            return false;
+        }
+        if (mode == EMPTY) {
+            mode = elementMode;
+            int initial = Math.max(capacity, DEFAULT_CAPACITY);
+            if (elementMode == INT) {
+                ints = new int[initial];
+            } else if (elementMode == LONG) {
+                longs = new long[initial];
+            } else {
+                doubles = new double[initial];
+            }
+            return true;
+        }
+        return mode == elementMode;
+    }
+
+    private void toObjects() {
+        if (mode == OBJECT) {
+            return;
+        }
+        ArrayList<Object> boxed = new ArrayList<>(Math.max(size, capacity));
+        for (int i = 0; i < size; i++) {
+            boxed.add(get(i));
+        }
+        objects = boxed;
+        ints = null;
+        longs = null;
+        doubles = null;
+        mode = OBJECT;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        int length = mode == INT ? ints.length : mode == LONG ? longs.length : doubles.length;
+        if (minCapacity <= length) {
+            return;
+        }
+        int newLength = Math.max(minCapacity, length + (length >> 1));
+        if (mode == INT) {
+            ints = Arrays.copyOf(ints, newLength);
+        } else if (mode == LONG) {
+            longs = Arrays.copyOf(longs, newLength);
+        } else {
+            doubles = Arrays.copyOf(doubles, newLength);
+        }
+    }
+
+    private void store(int index, Object element) {
+        if (mode == INT) {
+            ints[index] = (Integer) element;
+        } else if (mode == LONG) {
+            longs[index] = (Long) element;
+        } else {
+            doubles[index] = (Double) element;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public int size() {
+        return mode == OBJECT ? objects.size() : size;
+    }
+
+    @Override
+    public Object get(int index) {
+        if (mode == OBJECT) {
+            return objects.get(index);
+        }
+        checkIndex(index);
+        if (mode == INT) {
+            return ints[index];
+        }
+        if (mode == LONG) {
+            return longs[index];
+        }
+        return doubles[index];
+    }
+
+    public int intValue(int index) {
+        if (mode == OBJECT) {
+            return TypeUtils.tryCastToIntValue(objects.get(index), 0);
+        }
+        checkIndex(index);
+        if (mode == INT) {
+            return ints[index];
+        }
+        if (mode == LONG) {
+            return (int) longs[index];
+        }
+        return (int) doubles[index];
+    }
+
+    public long longValue(int index) {
+        if (mode == OBJECT) {
+            return TypeUtils.tryCastToLongValue(objects.get(index), 0L);
+        }
+        checkIndex(index);
+        if (mode == INT) {
+            return ints[index];
+        }
+        if (mode == LONG) {
+            return longs[index];
+        }
+        return (long) doubles[index];
+    }
+
+    public double doubleValue(int index) {
+        if (mode == OBJECT) {
+            return TypeUtils.tryCastToDoubleValue(objects.get(index), 0.0);
+        }
+        checkIndex(index);
+        if (mode == INT) {
+            return ints[index];
+        }
+        if (mode == LONG) {
+            return longs[index];
+        }
+        return doubles[index];
+    }
+
+    public int[] toIntArray() {
+        if (mode == INT) {
+            return Arrays.copyOf(ints, size);
+        }
+        int[] result = new int[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = intValue(i);
+        }
+        return result;
+    }
+
+    public long[] toLongArray() {
+        if (mode == LONG) {
+            return Arrays.copyOf(longs, size);
+        }
+        long[] result = new long[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = longValue(i);
+        }
+        return result;
+    }
+
+    public double[] toDoubleArray() {
+        if (mode == DOUBLE) {
+            return Arrays.copyOf(doubles, size);
+        }
+        double[] result = new double[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = doubleValue(i);
+        }
+        return result;
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        checkIndex(index);
+        if (mode != OBJECT && modeOf(element) == mode) {
+            Object old = get(index);
+            store(index, element);
+            return old;
+        }
+        toObjects();
+        return objects.set(index, element);
+    }
+
+    @Override
+    public boolean add(Object element) {
+        modCount++;
+        if (accepts(element)) {
+            ensureCapacity(size + 1);
+            store(size++, element);
+            return true;
+        }
+        toObjects();
+        return objects.add(element);
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        modCount++;
+        if (!accepts(element)) {
+            toObjects();
+            objects.add(index, element);
+            return;
+        }
+        ensureCapacity(size + 1);
+        Object array = mode == INT ? ints : mode == LONG ? longs : doubles;
+        System.arraycopy(array, index, array, index + 1, size - index);
+        store(index, element);
+        size++;
+    }
+
+    @Override
+    public Object remove(int index) {
+        if (mode == OBJECT) {
+            modCount++;
+            return objects.remove(index);
+        }
+        Object old = get(index);
+        modCount++;
+        Object array = mode == INT ? ints : mode == LONG ? longs : doubles;
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (mode == OBJECT) {
+            modCount++;
+            objects.subList(fromIndex, toIndex).clear();
+            return;
+        }
+        modCount++;
+        Object array = mode == INT ? ints : mode == LONG ? longs : doubles;
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        mode = EMPTY;
+        size = 0;
+        ints = null;
+        longs = null;
+        doubles = null;
+        objects = null;
+    }
+}
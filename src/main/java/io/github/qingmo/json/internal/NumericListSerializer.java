@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes the primitive content of a {@link NumericList} directly, without boxing each element.
+ */
+public final class NumericListSerializer extends StdSerializer<NumericList> {
+
+    public NumericListSerializer() {
+        super(NumericList.class);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, NumericList value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(NumericList value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int size = value.size();
+        switch (value.mode()) {
+            case NumericList.INT:
+                gen.writeArray(value.ints(), 0, size);
+                break;
+            case NumericList.LONG:
+                gen.writeArray(value.longs(), 0, size);
+                break;
+            case NumericList.DOUBLE:
+                gen.writeArray(value.doubles(), 0, size);
+                break;
+            case NumericList.OBJECT:
+                List<Object> objects = value.objects();
+                provider.findValueSerializer(objects.getClass()).serialize(objects, gen, provider);
+                break;
+            default:
+                gen.writeStartArray(value, 0);
+                gen.writeEndArray();
+                break;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.github.qingmo.json.exception.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Decodes a newline-delimited JSON file in chunks cut on line boundaries. Each chunk is memory-mapped and decoded on
+ * a dedicated {@link ForkJoinPool}, at most two chunks per worker are in flight so memory stays bounded however big
+ * the file is. Values come out in file order, or in the order chunks finish when ordering is not required.
+ */
+public final class ParallelLineIterator<T> implements Iterator<T>, Closeable {
+    private static final int MIN_CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final ObjectReader reader;
+    private final boolean ordered;
+    private final Function<Exception, JSONException> failure;
+    private final ForkJoinPool pool;
+    // 保序时按提交顺序取 pending, 不保序时从 done 里取先完成的, 两者只用其一, 已完成的结果不会被额外留住
+    private final Deque<Future<List<T>>> pending;
+    private final BlockingQueue<Future<List<T>>> done;
+    private final ExecutorCompletionService<List<T>> completion;
+    private final ByteBuffer scan = ByteBuffer.allocate(8192);
+    private final long size;
+    private final long chunkSize;
+    private final int window;
+    private long position;
+    private int inFlight;
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean closed;
+
+    public ParallelLineIterator(FileChannel channel, ObjectReader reader, int parallelism, boolean ordered,
+                                Function<Exception, JSONException> failure) throws IOException {
+        this.channel = channel;
+        this.reader = reader;
+        this.ordered = ordered;
+        this.failure = failure;
+        this.size = channel.size();
+        this.chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, size / (parallelism * 4L) + 1));
+        this.window = parallelism * 2;
+        this.pool = new ForkJoinPool(parallelism);
+        if (ordered) {
+            this.pending = new ArrayDeque<>();
+            this.done = null;
+            this.completion = null;
+        } else {
+            this.pending = null;
+            this.done = new LinkedBlockingQueue<>();
+            this.completion = new ExecutorCompletionService<>(pool, done);
+        }
+    }
+
+    /**
+     * Chunk results the iterator keeps queued, submitted or finished but not handed out yet. Never more than twice the
+     * parallelism.
+     */
+    public int retainedChunks() {
+        return ordered ? pending.size() : done.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed) {
+                return false;
+            }
+            submitChunks();
+            if (inFlight == 0) {
+                close();
+                return false;
+            }
+            current = takeChunk().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private void submitChunks() {
+        try {
+            while (inFlight < window && position < size) {
+                long start = position;
+                long end = lineBoundary(start + chunkSize);
+                if (end - start > Integer.MAX_VALUE) {
+                    throw new JSONException("can not parse lines, line at offset " + start + " is larger than 2GB");
+                }
+                position = end;
+                if (ordered) {
+                    pending.add(pool.submit(() -> decode(start, end)));
+                } else {
+                    completion.submit(() -> decode(start, end));
+                }
+                inFlight++;
+            }
+        } catch (IOException e) {
+            close();
+            throw failure.apply(e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    // 从 from 开始找到下一个换行符之后的位置, 保证分块不会切断一行
+    private long lineBoundary(long from) throws IOException {
+        long offset = from;
+        while (offset < size) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    private List<T> decode(long start, long end) throws IOException {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        List<T> values = new ArrayList<>();
+        try (MappingIterator<T> iterator = reader.readValues(new ByteBufferBackedInputStream(buffer))) {
+            while (iterator.hasNextValue()) {
+                values.add(iterator.nextValue());
+            }
+        }
+        return values;
+    }
+
+    private List<T> takeChunk() {
+        try {
+            Future<List<T>> future = ordered ? pending.poll() : completion.take();
+            inFlight--;
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw failure.apply(e);
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw failure.apply((Exception) cause);
+            }
+            throw new JSONException(cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        current = Collections.emptyIterator();
+        pool.shutdownNow();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw failure.apply(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Key layout shared by sibling objects, similar to a hidden class. Shapes form a tree rooted at {@link #root()},
+ * adding a key to a shape yields the same child shape for every object that is built the same way.
+ */
+final class Shape {
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    private final String[] keys;
+    // 只在单次反序列化内部构建, 不需要同步
+    private Map<String, Shape> transitions;
+    private volatile int[] table;
+
+    private Shape(String[] keys) {
+        this.keys = keys;
+    }
+
+    static Shape root() {
+        return new Shape(new String[0]);
+    }
+
+    Shape transition(String key) {
+        if (transitions == null) {
+            transitions = new HashMap<>(4);
+        }
+        Shape next = transitions.get(key);
+        if (next == null) {
+            String[] nextKeys = Arrays.copyOf(keys, keys.length + 1);
+            nextKeys[keys.length] = key;
+            next = new Shape(nextKeys);
+            transitions.put(key, next);
+        }
+        return next;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    String key(int index) {
+        return keys[index];
+    }
+
+    int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        if (keys.length <= LINEAR_SCAN_LIMIT) {
+            for (int i = 0; i < keys.length; i++) {
+                if (key.equals(keys[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int[] table = this.table;
+        if (table == null) {
+            table = buildTable();
+            this.table = table;
+        }
+        int mask = table.length - 1;
+        for (int slot = spread(key.hashCode()) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            if (key.equals(keys[table[slot] - 1])) {
+                return table[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    // 开放寻址, 槽位保存 下标 + 1, 0 表示空槽
+    private int[] buildTable() {
+        int[] table = new int[Integer.highestOneBit(keys.length * 2 - 1) << 1];
+        int mask = table.length - 1;
+        for (int i = 0; i < keys.length; i++) {
+            int slot = spread(keys[i].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map that only stores its values, the keys live in a {@link Shape} shared with its siblings. Adding or removing a
+ * key moves the entries into a private {@link LinkedHashMap}.
+ */
+final class ShapedMap extends AbstractMap<String, Object> {
+    private final Shape shape;
+    private final Object[] values;
+    private Map<String, Object> delegate;
+
+    ShapedMap(Shape shape, Object[] values) {
+        this.shape = shape;
+        this.values = values;
+    }
+
+    private Map<String, Object> materialize() {
+        if (delegate == null) {
+            Map<String, Object> map = new LinkedHashMap<>(Math.max(16, (int) (values.length / 0.75f) + 1));
+            for (int i = 0; i < values.length; i++) {
+                map.put(shape.key(i), values[i]);
+            }
+            delegate = map;
+        }
+        return delegate;
+    }
+
+    @Override
+    public int size() {
+        return delegate != null ? delegate.size() : values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate != null ? delegate.containsKey(key) : shape.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (delegate != null) {
+            return delegate.get(key);
+        }
+        int index = shape.indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (delegate == null) {
+            int index = shape.indexOf(key);
+            if (index >= 0) {
+                Object old = values[index];
+                values[index] = value;
+                return old;
+            }
+        }
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (delegate == null && shape.indexOf(key) < 0) {
+            return null;
+        }
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return delegate != null ? delegate.entrySet().iterator() : new ValueIterator();
+            }
+
+            @Override
+            public int size() {
+                return ShapedMap.this.size();
+            }
+        };
+    }
+
+    private final class ValueIterator implements Iterator<Entry<String, Object>> {
+        private int cursor;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < values.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (cursor >= values.length) {
+                throw new NoSuchElementException();
+            }
+            last = cursor++;
+            return new ValueEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            materialize().remove(shape.key(last));
+            last = -1;
+        }
+    }
+
+    private final class ValueEntry implements Entry<String, Object> {
+        private final int index;
+
+        ValueEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return shape.key(index);
+        }
+
+        @Override
+        public Object getValue() {
+            return delegate != null ? delegate.get(getKey()) : values[index];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return put(getKey(), value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return getKey().equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
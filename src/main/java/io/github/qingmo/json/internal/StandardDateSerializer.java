@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.DateSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Writes {@link Date} as {@code yyyy-MM-dd HH:mm:ss} without sharing a {@link SimpleDateFormat} between threads.
+ * The text of recently written seconds is kept in a small lock-free cache since timestamps in one batch cluster
+ * heavily. Dates before 1900 or after 9999 and properties with their own {@link JsonFormat} are handed to
+ * {@link SimpleDateFormat}/{@link DateSerializer} so the output stays identical.
+ */
+public final class StandardDateSerializer extends StdSerializer<Date> implements ContextualSerializer {
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final int CACHE_SIZE = 256;
+    private static final long DAY_SECONDS = 86_400L;
+
+    private final TimeZone zone;
+    private final Entry[] cache = new Entry[CACHE_SIZE];
+
+    public StandardDateSerializer() {
+        super(Date.class);
+        // 与 SimpleDateFormat 一致, 使用创建时的默认时区
+        this.zone = TimeZone.getDefault();
+    }
+
+    @Override
+    public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        long millis = value.getTime();
+        long second = Math.floorDiv(millis, 1000L);
+        int slot = (int) (second & (CACHE_SIZE - 1));
+        Entry entry = cache[slot];
+        if (entry == null || entry.second != second) {
+            entry = new Entry(second, format(millis));
+            cache[slot] = entry;
+        }
+        gen.writeString(entry.text);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(prov, property, handledType());
+        if (format == null || (format.getShape() == JsonFormat.Shape.ANY && !format.hasPattern()
+                && !format.hasLocale() && !format.hasTimeZone() && !format.hasLenient())) {
+            return this;
+        }
+        SimpleDateFormat dateFormat = new SimpleDateFormat(PATTERN);
+        dateFormat.setTimeZone(zone);
+        return new DateSerializer(false, dateFormat).createContextual(prov, property);
+    }
+
+    private String format(long millis) {
+        long localSecond = Math.floorDiv(millis + zone.getOffset(millis), 1000L);
+        long epochDay = Math.floorDiv(localSecond, DAY_SECONDS);
+        int secondOfDay = (int) Math.floorMod(localSecond, DAY_SECONDS);
+
+        // java.time.LocalDate#ofEpochDay
+        long zeroDay = epochDay + 719_528L - 60;
+        long yearEst = (400 * zeroDay + 591) / 146_097;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        long year = yearEst + marchMonth0 / 10;
+        if (year < 1900 || year > 9999) {
+            // julian calendar and era handling stay with SimpleDateFormat
+            SimpleDateFormat dateFormat = new SimpleDateFormat(PATTERN);
+            dateFormat.setTimeZone(zone);
+            return dateFormat.format(new Date(millis));
+        }
+
+        char[] chars = new char[19];
+        int y = (int) year;
+        chars[0] = (char) ('0' + y / 1000);
+        chars[1] = (char) ('0' + y / 100 % 10);
+        chars[2] = (char) ('0' + y / 10 % 10);
+        chars[3] = (char) ('0' + y % 10);
+        chars[4] = '-';
+        twoDigits(chars, 5, month);
+        chars[7] = '-';
+        twoDigits(chars, 8, day);
+        chars[10] = ' ';
+        twoDigits(chars, 11, secondOfDay / 3600);
+        chars[13] = ':';
+        twoDigits(chars, 14, secondOfDay / 60 % 60);
+        chars[16] = ':';
+        twoDigits(chars, 17, secondOfDay % 60);
+        return new String(chars);
+    }
+
+    private static void twoDigits(char[] chars, int offset, int value) {
+        chars[offset] = (char) ('0' + value / 10);
+        chars[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private static final class Entry {
+        private final long second;
+        private final String text;
+
+        private Entry(long second, String text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
+}
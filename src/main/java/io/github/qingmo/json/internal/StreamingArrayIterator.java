@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.qingmo.json.exception.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Decodes the elements of a top-level JSON array one at a time, only the current element is held in memory.
+ */
+public final class StreamingArrayIterator<T> implements Iterator<T>, Closeable {
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final Function<Exception, JSONException> failure;
+    private JsonToken current;
+
+    public StreamingArrayIterator(JsonParser parser, ObjectReader reader, Function<Exception, JSONException> failure)
+            throws IOException {
+        this.parser = parser;
+        this.reader = reader;
+        this.failure = failure;
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new JSONException("can not stream array, content does not start with '['");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current == null) {
+            try {
+                current = parser.nextToken();
+            } catch (IOException e) {
+                throw failure.apply(e);
+            }
+            if (current == null) {
+                throw new JSONException("can not stream array, unexpected end of content");
+            }
+        }
+        return current != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return reader.readValue(parser);
+        } catch (IOException e) {
+            throw failure.apply(e);
+        } finally {
+            current = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw failure.apply(e);
+        }
+    }
+}
@@ -194,10 +194,7 @@ public final class TypeUtils {
             ) {
                 return null;
             }
-            if (strVal.indexOf(',') != -1) {
-                strVal = strVal.replace(",", "");
-            }
-            return Float.valueOf(strVal);
+            return parseFloat(strVal);
         }
         if (value instanceof Boolean) {
             return (Boolean) value ? 1f : 0f;
@@ -219,10 +216,7 @@ public final class TypeUtils {
             ) {
                 return null;
             }
-            if (strVal.indexOf(',') != -1) {
-                strVal = strVal.replace(",", "");
-            }
-            return Double.valueOf(strVal);
+            return parseDouble(strVal);
         }
         if (value instanceof Boolean) {
             return (Boolean) value ? 1.0 : 0.0;
@@ -247,14 +241,7 @@ public final class TypeUtils {
             ) {
                 return null;
             }
-            if (strVal.indexOf(',') != -1) {
-                strVal = strVal.replace(",", "");
-            }
-            try {
-                return Long.valueOf(strVal);
-            } catch (NumberFormatException ex) {
-                throw ex;
-            }
+            return parseLong(strVal);
         }
         if (value instanceof Boolean) {
             return (Boolean) value ? 1L : 0L;
@@ -310,14 +297,7 @@ public final class TypeUtils {
             ) {
                 return null;
             }
-            if (strVal.indexOf(',') != -1) {
-                strVal = strVal.replace(",", "");
-            }
-            Matcher matcher = NUMBER_WITH_TRAILING_ZEROS_PATTERN.matcher(strVal);
-            if (matcher.find()) {
-                strVal = matcher.replaceAll("");
-            }
-            return Integer.valueOf(strVal);
+            return parseInt(strVal);
         }
         if (value instanceof Boolean) {
             return ((Boolean) value) ? 1 : 0;
@@ -369,4 +349,561 @@ public final class TypeUtils {
         }
         throw new JSONException("can not cast to boolean, value :" + value);
     }
+
+    public static boolean castToBooleanValue(Object value, boolean defaultValue) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        Boolean ret = castToBoolean(value);
+        return ret == null ? defaultValue : ret;
+    }
+
+    public static byte castToByteValue(Object value, byte defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof BigDecimal) {
+            return byteValue((BigDecimal) value);
+        }
+        if (value instanceof Number) {
+            return ((Number) value).byteValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0 || "null".equalsIgnoreCase(strVal)) {
+                return defaultValue;
+            }
+            return Byte.parseByte(strVal);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? (byte) 1 : (byte) 0;
+        }
+        throw new JSONException("can not cast to byte, value : " + value);
+    }
+
+    public static short castToShortValue(Object value, short defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).shortValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0 || "null".equalsIgnoreCase(strVal)) {
+                return defaultValue;
+            }
+            return Short.parseShort(strVal);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? (short) 1 : (short) 0;
+        }
+        throw new JSONException("can not cast to short, value : " + value);
+    }
+
+    public static int castToIntValue(Object value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0 || "null".equalsIgnoreCase(strVal)) {
+                return defaultValue;
+            }
+            return parseInt(strVal);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        throw new JSONException("can not cast to int, value :" + value);
+    }
+
+    public static long castToLongValue(Object value, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0 || "null".equalsIgnoreCase(strVal)) {
+                return defaultValue;
+            }
+            return parseLong(strVal);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1L : 0L;
+        }
+        throw new JSONException("can not cast to long, value : " + value);
+    }
+
+    public static float castToFloatValue(Object value, float defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).floatValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0 || "null".equalsIgnoreCase(strVal)) {
+                return defaultValue;
+            }
+            return parseFloat(strVal);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1f : 0f;
+        }
+        throw new JSONException("can not cast to float, value : " + value);
+    }
+
+    public static double castToDoubleValue(Object value, double defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0 || "null".equalsIgnoreCase(strVal)) {
+                return defaultValue;
+            }
+            return parseDouble(strVal);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1.0 : 0.0;
+        }
+        throw new JSONException("can not cast to double, value : " + value);
+    }
+
+    /*
+     * tryCastToXxxValue 与 castToXxxValue 的转换规则相同, 但无法转换时直接返回默认值, 不会创建任何异常
+     */
+
+    public static boolean tryCastToBooleanValue(Object value, boolean defaultValue) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue() == 1;
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if ("true".equalsIgnoreCase(strVal) || "1".equals(strVal)
+                    || "Y".equalsIgnoreCase(strVal) || "T".equalsIgnoreCase(strVal)) {
+                return true;
+            }
+            if ("false".equalsIgnoreCase(strVal) || "0".equals(strVal)
+                    || "F".equalsIgnoreCase(strVal) || "N".equalsIgnoreCase(strVal)) {
+                return false;
+            }
+        }
+        return defaultValue;
+    }
+
+    public static byte tryCastToByteValue(Object value, byte defaultValue) {
+        if (value instanceof BigDecimal) {
+            long rounded = roundedLongValue((BigDecimal) value);
+            return rounded >= Byte.MIN_VALUE && rounded <= Byte.MAX_VALUE ? (byte) rounded : defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).byteValue();
+        }
+        if (value instanceof String) {
+            long parsed = tryParseWithoutGrouping((String) value);
+            return parsed >= Byte.MIN_VALUE && parsed <= Byte.MAX_VALUE ? (byte) parsed : defaultValue;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? (byte) 1 : (byte) 0;
+        }
+        return defaultValue;
+    }
+
+    public static short tryCastToShortValue(Object value, short defaultValue) {
+        if (value instanceof Number) {
+            return ((Number) value).shortValue();
+        }
+        if (value instanceof String) {
+            long parsed = tryParseWithoutGrouping((String) value);
+            return parsed >= Short.MIN_VALUE && parsed <= Short.MAX_VALUE ? (short) parsed : defaultValue;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? (short) 1 : (short) 0;
+        }
+        return defaultValue;
+    }
+
+    public static int tryCastToIntValue(Object value, int defaultValue) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.isEmpty()) {
+                return defaultValue;
+            }
+            long parsed = scanLong(strVal, true);
+            return parsed >= Integer.MIN_VALUE && parsed <= Integer.MAX_VALUE ? (int) parsed : defaultValue;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return defaultValue;
+    }
+
+    public static long tryCastToLongValue(Object value, long defaultValue) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.isEmpty()) {
+                return defaultValue;
+            }
+            long parsed = scanLong(strVal, false);
+            if (parsed != NOT_PARSED) {
+                return parsed;
+            }
+            // Long.MIN_VALUE 本身与 NOT_PARSED 相同
+            return isLongMinValue(strVal) ? Long.MIN_VALUE : defaultValue;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1L : 0L;
+        }
+        return defaultValue;
+    }
+
+    public static float tryCastToFloatValue(Object value, float defaultValue) {
+        if (value instanceof Number) {
+            return ((Number) value).floatValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.isEmpty()) {
+                return defaultValue;
+            }
+            double scanned = scanDecimal(strVal, true);
+            if (!Double.isNaN(scanned)) {
+                return (float) scanned;
+            }
+            strVal = strVal.replace(",", "");
+            return isFloatingPoint(strVal) ? Float.parseFloat(strVal) : defaultValue;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1f : 0f;
+        }
+        return defaultValue;
+    }
+
+    public static double tryCastToDoubleValue(Object value, double defaultValue) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.isEmpty()) {
+                return defaultValue;
+            }
+            double scanned = scanDecimal(strVal, false);
+            if (!Double.isNaN(scanned)) {
+                return scanned;
+            }
+            strVal = strVal.replace(",", "");
+            return isFloatingPoint(strVal) ? Double.parseDouble(strVal) : defaultValue;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1.0 : 0.0;
+        }
+        return defaultValue;
+    }
+
+    private static long roundedLongValue(BigDecimal decimal) {
+        BigDecimal rounded = decimal.setScale(0, RoundingMode.HALF_UP);
+        return rounded.unscaledValue().bitLength() < 64 ? rounded.longValue() : NOT_PARSED;
+    }
+
+    // Byte/Short 的字符串转换不处理千分位逗号
+    private static long tryParseWithoutGrouping(String str) {
+        if (str.isEmpty() || str.indexOf(',') != -1) {
+            return NOT_PARSED;
+        }
+        return scanLong(str, false);
+    }
+
+    private static boolean isLongMinValue(String str) {
+        return "-9223372036854775808".equals(str.indexOf(',') != -1 ? str.replace(",", "") : str);
+    }
+
+    /**
+     * Whether {@link Double#parseDouble(String)} accepts the text, surrounding whitespace, {@code NaN},
+     * {@code Infinity}, hexadecimal and {@code fFdD} suffixes included.
+     */
+    private static boolean isFloatingPoint(String str) {
+        int start = 0;
+        int end = str.length();
+        while (start < end && str.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && str.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int i = start;
+        if (i < end && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+            i++;
+        }
+        if (str.startsWith("NaN", i)) {
+            return i + 3 == end;
+        }
+        if (str.startsWith("Infinity", i)) {
+            return i + 8 == end;
+        }
+        boolean hex = i + 1 < end && str.charAt(i) == '0' && (str.charAt(i + 1) == 'x' || str.charAt(i + 1) == 'X');
+        if (hex) {
+            i += 2;
+        }
+        int digits = 0;
+        while (i < end && isDigit(str.charAt(i), hex)) {
+            i++;
+            digits++;
+        }
+        if (i < end && str.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(str.charAt(i), hex)) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        // 十六进制必须带有 p 指数, 十进制的 e 指数可选
+        if (i < end && (hex ? str.charAt(i) == 'p' || str.charAt(i) == 'P' : str.charAt(i) == 'e' || str.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < end && isDigit(str.charAt(i), false)) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        } else if (hex) {
+            return false;
+        }
+        if (i < end && "fFdD".indexOf(str.charAt(i)) != -1) {
+            i++;
+        }
+        return i == end;
+    }
+
+    private static boolean isDigit(char ch, boolean hex) {
+        return (ch >= '0' && ch <= '9') || (hex && ((ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F')));
+    }
+
+    // 单次扫描解析数字字符串, 跳过千分位逗号且不产生中间字符串;
+    // 快速路径无法处理的输入(溢出、空白、NaN 等)交给原有的 JDK 解析, 结果与异常信息保持不变
+    private static final long NOT_PARSED = Long.MIN_VALUE;
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private static int parseInt(String str) {
+        long value = scanLong(str, true);
+        if (value != NOT_PARSED && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        str = str.replace(",", "");
+        Matcher matcher = NUMBER_WITH_TRAILING_ZEROS_PATTERN.matcher(str);
+        if (matcher.find()) {
+            str = matcher.replaceAll("");
+        }
+        return Integer.parseInt(str);
+    }
+
+    private static long parseLong(String str) {
+        long value = scanLong(str, false);
+        if (value != NOT_PARSED) {
+            return value;
+        }
+        return Long.parseLong(str.replace(",", ""));
+    }
+
+    private static double parseDouble(String str) {
+        double value = scanDecimal(str, false);
+        if (!Double.isNaN(value)) {
+            return value;
+        }
+        return Double.parseDouble(str.replace(",", ""));
+    }
+
+    private static float parseFloat(String str) {
+        double value = scanDecimal(str, true);
+        if (!Double.isNaN(value)) {
+            return (float) value;
+        }
+        return Float.parseFloat(str.replace(",", ""));
+    }
+
+    /**
+     * @param zeroFraction whether a trailing {@code .000} is accepted
+     * @return the value, or {@link #NOT_PARSED} when the input is not a plain integer that fits in a long
+     */
+    private static long scanLong(String str, boolean zeroFraction) {
+        int len = str.length();
+        int i = 0;
+        while (i < len && str.charAt(i) == ',') {
+            i++;
+        }
+        boolean negative = false;
+        if (i < len && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+            negative = str.charAt(i) == '-';
+            i++;
+        }
+        // 与 Long.parseLong 相同, 以负数累加避免 MIN_VALUE 溢出
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / 10;
+        long result = 0;
+        boolean digits = false;
+        for (; i < len; i++) {
+            char ch = str.charAt(i);
+            // Long.parseLong 按 Character.digit 接受任意 Unicode 数字
+            int digit = ch >= '0' && ch <= '9' ? ch - '0' : ch > 0x7f ? Character.digit(ch, 10) : -1;
+            if (digit >= 0) {
+                if (result < multmin) {
+                    return NOT_PARSED;
+                }
+                result *= 10;
+                if (result < limit + digit) {
+                    return NOT_PARSED;
+                }
+                result -= digit;
+                digits = true;
+            } else if (ch == '.' && zeroFraction) {
+                for (i++; i < len; i++) {
+                    ch = str.charAt(i);
+                    if (ch != '0' && ch != ',') {
+                        return NOT_PARSED;
+                    }
+                }
+            } else if (ch != ',') {
+                return NOT_PARSED;
+            }
+        }
+        if (!digits) {
+            return NOT_PARSED;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Exact only when the mantissa and the power of ten are both exactly representable, a single rounding then gives
+     * the correctly rounded result.
+     *
+     * @return the value, or {@code NaN} when the input has to be parsed by the JDK
+     */
+    private static double scanDecimal(String str, boolean singlePrecision) {
+        int len = str.length();
+        int i = 0;
+        while (i < len && str.charAt(i) == ',') {
+            i++;
+        }
+        boolean negative = false;
+        if (i < len && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+            negative = str.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean digits = false;
+        boolean dot = false;
+        for (; i < len; i++) {
+            char ch = str.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                digits = true;
+                if (mantissa != 0 || ch != '0') {
+                    if (++significantDigits > 18) {
+                        return Double.NaN;
+                    }
+                    mantissa = mantissa * 10 + (ch - '0');
+                }
+                if (dot) {
+                    exponent--;
+                }
+            } else if (ch == '.' && !dot) {
+                dot = true;
+            } else if ((ch == 'e' || ch == 'E') && digits) {
+                int explicit = scanExponent(str, i + 1);
+                if (explicit == Integer.MIN_VALUE) {
+                    return Double.NaN;
+                }
+                exponent += explicit;
+                break;
+            } else if (ch != ',') {
+                return Double.NaN;
+            }
+        }
+        if (!digits) {
+            return Double.NaN;
+        }
+        double value;
+        if (mantissa == 0) {
+            value = 0.0;
+        } else if (singlePrecision) {
+            if (mantissa > MAX_EXACT_FLOAT_MANTISSA || exponent < -10 || exponent > 10) {
+                return Double.NaN;
+            }
+            value = exponent < 0 ? (float) mantissa / FLOAT_POWERS_OF_TEN[-exponent]
+                    : (float) mantissa * FLOAT_POWERS_OF_TEN[exponent];
+        } else {
+            if (mantissa > MAX_EXACT_DOUBLE_MANTISSA || exponent < -22 || exponent > 22) {
+                return Double.NaN;
+            }
+            value = exponent < 0 ? (double) mantissa / DOUBLE_POWERS_OF_TEN[-exponent]
+                    : (double) mantissa * DOUBLE_POWERS_OF_TEN[exponent];
+        }
+        return negative ? -value : value;
+    }
+
+    private static int scanExponent(String str, int start) {
+        int len = str.length();
+        int i = start;
+        boolean negative = false;
+        if (i < len && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+            negative = str.charAt(i) == '-';
+            i++;
+        }
+        int result = 0;
+        boolean digits = false;
+        for (; i < len; i++) {
+            char ch = str.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                result = result * 10 + (ch - '0');
+                if (result > 1000) {
+                    return Integer.MIN_VALUE;
+                }
+                digits = true;
+            } else if (ch != ',') {
+                return Integer.MIN_VALUE;
+            }
+        }
+        if (!digits) {
+            return Integer.MIN_VALUE;
+        }
+        return negative ? -result : result;
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json
+
+import io.github.qingmo.json.internal.CompactMap
+import org.junit.jupiter.api.Test
+import java.util.*
+import kotlin.test.*
+
+class CompactMapTest {
+
+    @Test
+    fun `test behaves like a map across the threshold`() {
+        val random = Random(1)
+        for (ordered in listOf(false, true)) {
+            val compact = CompactMap<String?, Int>(ordered)
+            val expected = LinkedHashMap<String?, Int>()
+            repeat(20000) {
+                val key = if (random.nextInt(30) == 0) null else "k" + random.nextInt(12)
+                when (random.nextInt(5)) {
+                    0, 1 -> assertEquals(expected.put(key, it), compact.put(key, it))
+                    2 -> assertEquals(expected.remove(key), compact.remove(key))
+                    3 -> assertEquals(expected[key], compact[key])
+                    else -> if (random.nextInt(50) == 0) {
+                        expected.clear()
+                        compact.clear()
+                    }
+                }
+                assertEquals(expected.size, compact.size)
+            }
+            assertEquals(expected, compact)
+            assertEquals(expected.hashCode(), compact.hashCode())
+        }
+    }
+
+    @Test
+    fun `test insertion order`() {
+        val small = CompactMap<String, Int>()
+        listOf("c", "a", "b").forEachIndexed { i, key -> small[key] = i }
+        assertEquals(listOf("c", "a", "b"), small.keys.toList())
+        small.remove("c")
+        small["c"] = 3
+        assertEquals(listOf("a", "b", "c"), small.keys.toList())
+
+        val ordered = CompactMap<String, Int>(true)
+        val keys = (0 until CompactMap.THRESHOLD * 2).map { "key$it" }.reversed()
+        keys.forEachIndexed { i, key -> ordered[key] = i }
+        assertEquals(keys, ordered.keys.toList())
+    }
+
+    @Test
+    fun `test entry iterator`() {
+        val map = CompactMap<String, Int>(4, false)
+        (1..4).forEach { map["k$it"] = it }
+        val iterator = map.entries.iterator()
+        while (iterator.hasNext()) {
+            val entry = iterator.next()
+            if (entry.value % 2 == 0) {
+                iterator.remove()
+            } else {
+                entry.setValue(entry.value * 10)
+            }
+        }
+        assertEquals(mapOf("k1" to 10, "k3" to 30), map)
+        assertFailsWith(IllegalStateException::class) { map.entries.iterator().remove() }
+        assertFailsWith(ConcurrentModificationException::class) {
+            for (key in map.keys) {
+                map["new"] = 1
+            }
+        }
+        assertFailsWith(NoSuchElementException::class) { CompactMap<String, Int>().entries.iterator().next() }
+        map.entries.clear()
+        assertTrue(map.isEmpty())
+    }
+
+    @Test
+    fun `test entry after removal`() {
+        val map = CompactMap<String, Int>()
+        (1..4).forEach { map["k$it"] = it }
+        val iterator = map.entries.iterator()
+        val first = iterator.next()
+        val second = iterator.next()
+        iterator.remove()
+        assertEquals(1, first.setValue(10))
+        assertEquals(2, second.setValue(20))
+        assertEquals("k2", second.key)
+        assertEquals(20, second.value)
+        val third = iterator.next()
+        map.remove("k1")
+        assertEquals(3, third.setValue(30))
+        assertEquals(mapOf("k3" to 30, "k4" to 4), map)
+        assertEquals(10, first.value)
+    }
+
+    @Test
+    fun `test unordered map switches to hash order past the threshold`() {
+        val keys = (0..CompactMap.THRESHOLD).map { "key$it" }.reversed()
+        val map = CompactMap<String, Int>()
+        keys.dropLast(1).forEach { map[it] = 0 }
+        assertEquals(keys.dropLast(1), map.keys.toList())
+        map[keys.last()] = 0
+        assertEquals(HashMap(map).keys.toList(), map.keys.toList())
+        assertEquals(keys.toSet(), map.keys)
+    }
+
+    @Test
+    fun `test presized`() {
+        val large = CompactMap<String, Int>(100, true)
+        (0 until 100).forEach { large["k$it"] = it }
+        assertEquals(100, large.size)
+        assertEquals(42, large["k42"])
+        assertEquals((0 until 100).map { "k$it" }, large.keys.toList())
+    }
+}
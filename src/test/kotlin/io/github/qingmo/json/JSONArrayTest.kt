@@ -23,10 +23,13 @@
  */
 package io.github.qingmo.json
 
+import io.github.qingmo.json.datas.TestClass
+import io.github.qingmo.json.exception.JSONException
 import org.junit.jupiter.api.Assertions.*
 import org.junit.jupiter.api.Test
 import java.math.BigDecimal
 import java.math.BigInteger
+import java.util.Collections
 import kotlin.test.assertFails
 import kotlin.test.assertFailsWith
 
@@ -76,6 +79,22 @@ internal class JSONArrayTest {
         assertNull(data.getJSONArray(1))
     }
 
+    @Test
+    fun `test getJSONArray promotes nested list in place`() {
+        val nested = mutableListOf<Any?>(1, 2)
+        val data = JSONArray.wrap(mutableListOf<Any?>(nested, listOf(3)))
+        val first = data.getJSONArray(0)
+        assertSame(first, data.getJSONArray(0))
+        assertSame(first, data[0])
+        first!!.add(3)
+        assertEquals(listOf(1, 2, 3), nested)
+        assertEquals(listOf(3), data.getJSONArray(1))
+
+        val readOnly = JSONArray.wrap(Collections.unmodifiableList(listOf<Any?>(listOf(1))))
+        assertEquals(listOf(1), readOnly.getJSONArray(0))
+        assertFailsWith(IllegalArgumentException::class) { JSONArray.wrap(null) }
+    }
+
     @Test
     fun `test getJSONArray list ops`() {
         val data = JSONArray()
@@ -197,6 +216,68 @@ internal class JSONArrayTest {
         data1.set(0, "haha2")
     }
 
+    @Test
+    fun `test toJavaList element wise and parallel`() {
+        val data = JSON.parseArray("""[{"foo":"a"},{"foo":"b"},null]""")
+        val sequential = data.toJavaList(TestClass::class.java)
+        assertEquals(3, sequential.size)
+        assertEquals("a", sequential[0].foo)
+        assertNull(sequential[2])
+        val parallel = data.toJavaList(TestClass::class.java, true)
+        assertEquals(listOf("a", "b"), parallel.filterNotNull().map { it.foo })
+        assertEquals("b", data.getObject(1, TestClass::class.java).foo)
+        assertEquals(listOf(1, 2), JSON.parseArray("""[1,"2"]""").toJavaList(Int::class.java))
+    }
+
+    @Test
+    fun `test parseArray shares object shape`() {
+        val data = JSON.parseArray("""[{"a":1,"b":"x"},{"a":2,"b":"y"},{"b":"z","a":3},{"a":4,"a":5},7,null,[1,{"c":1}]]""")
+        assertEquals(7, data.size)
+        val first = data.getJSONObject(0)!!
+        assertSame(first, data[0])
+        assertEquals(1, first.getIntValue("a"))
+        assertEquals(listOf("a", "b"), first.keys.toList())
+        assertEquals(listOf("b", "a"), data.getJSONObject(2)!!.keys.toList())
+        assertEquals(mapOf("a" to 5), data.getJSONObject(3))
+        assertEquals(7, data.getIntValue(4))
+        assertNull(data[5])
+        assertEquals(listOf(1, mapOf("c" to 1)), data[6])
+        assertEquals(mapOf("a" to 1, "b" to "x"), first)
+        assertEquals(first.hashCode(), mapOf("a" to 1, "b" to "x").hashCode())
+
+        first["a"] = 10
+        first["c"] = true
+        assertEquals("""{"a":10,"b":"x","c":true}""", first.toJSONString())
+        assertEquals(listOf("a", "b"), data.getJSONObject(1)!!.keys.toList())
+        assertEquals("z", data.getJSONObject(2)!!.remove("b"))
+        assertEquals(mapOf("a" to 3), data.getJSONObject(2))
+        assertEquals(mapOf("a" to 2, "b" to "y"), data.getJSONObject(1))
+        val second = data.getJSONObject(1)!!
+        second.entries.first().setValue(20)
+        assertEquals(20, second.getIntValue("a"))
+        val iterator = second.entries.iterator()
+        iterator.next()
+        iterator.remove()
+        assertEquals(mapOf("b" to "y"), second)
+
+        val wide = (0 until 20).joinToString(",", "[{", "}]") { "\"k$it\":$it" }
+        val wideObject = JSON.parseArray(wide).getJSONObject(0)!!
+        assertEquals(20, wideObject.size)
+        assertEquals(19, wideObject.getIntValue("k19"))
+        assertFalse(wideObject.containsKey("k20"))
+        assertEquals("""[{"a":1}]""", JSON.toJSONString(JSON.parseArray("""[{"a":1}]""")))
+        assertFailsWith(JSONException::class) { JSON.parseArray("""{"a":1}""") }
+    }
+
+    @Test
+    fun `test primitive array extractors`() {
+        val data = JSON.parseArray("""[1,"2",null,3.7,4000000000]""")
+        assertEquals(listOf(1, 2, 0, 3, data.getIntValue(4)), data.toIntArray().toList())
+        assertEquals(listOf(1L, 2L, 0L, 3L, 4000000000L), data.toLongArray().toList())
+        assertEquals(listOf(1.0, 2.0, 0.0, 3.7, 4.0E9), data.toDoubleArray().toList())
+        assertEquals(0, JSONArray().toIntArray().size)
+    }
+
     @Test
     fun `test sort`() {
         val data1 = JSONArray()
@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json
+
+import com.fasterxml.jackson.annotation.JsonInclude
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule
+import io.github.qingmo.json.exception.JSONException
+import io.github.qingmo.json.internal.ParallelLineIterator
+import org.junit.jupiter.api.Test
+import java.io.ByteArrayInputStream
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.StandardOpenOption
+import java.util.stream.Collectors
+import kotlin.test.*
+
+class JSONMapperTest {
+
+    data class Person(var name: String? = null, var age: Int = 0)
+
+    @Test
+    fun `test default mapper behaves like JSON`() {
+        val mapper = JSON.getDefault()
+        assertSame(JSONConfig.DEFAULT, mapper.config)
+        assertEquals("""{"age":1}""", mapper.toJSONString(Person(null, 1)))
+        assertFailsWith(JSONException::class) {
+            mapper.parseObject("""{"name":"a","unknown":1}""", Person::class.java)
+        }
+    }
+
+    @Test
+    fun `test lenient mapper ignores unknown properties`() {
+        val lenient = JSONMapper(JSONConfig.builder().failOnUnknownProperties(false).build())
+        assertEquals(Person("a", 2), lenient.parseObject("""{"name":"a","age":2,"unknown":1}""", Person::class.java))
+        // 默认实例不受影响
+        assertFailsWith(JSONException::class) {
+            JSON.parseObject("""{"name":"a","unknown":1}""", Person::class.java)
+        }
+    }
+
+    @Test
+    fun `test serialization inclusion`() {
+        val mapper = JSONMapper(JSONConfig.builder().serializationInclusion(JsonInclude.Include.ALWAYS).build())
+        assertEquals("""{"name":null,"age":1}""", mapper.toJSONString(Person(null, 1)))
+    }
+
+    @Test
+    fun `test container helpers use the default configuration`() {
+        val mapper = JSONMapper(JSONConfig.builder().serializationInclusion(JsonInclude.Include.ALWAYS).build())
+        val parsed = mapper.parseObject("""{"name":null,"age":1}""")
+        assertEquals("""{"age":1}""", parsed.toJSONString())
+        assertEquals("""{"name":null,"age":1}""", mapper.toJSONString(parsed))
+    }
+
+    @Test
+    fun `test prewarm and cache capacity`() {
+        val config = JSONConfig.builder().cacheCapacity(16).prewarm(Person::class.java).build()
+        val mapper = JSONMapper(config)
+        assertEquals(listOf<Class<*>>(Person::class.java), config.prewarmTypes)
+        assertEquals(3, mapper.cacheStats().size)
+        val missCount = mapper.cacheStats().missCount
+        mapper.parseObject("""{"name":"a"}""", Person::class.java)
+        mapper.toJSONString(Person("a", 1))
+        assertEquals(missCount, mapper.cacheStats().missCount)
+        assertEquals(16, config.toBuilder().build().cacheCapacity)
+    }
+
+    data class Pet(var name: String? = null)
+
+    @Test
+    fun `test cache evicts when full`() {
+        val mapper = JSONMapper(JSONConfig.builder().cacheCapacity(2).build())
+        mapper.parseObject("""{"name":"a"}""", Person::class.java)
+        mapper.toJSONString(Person("a", 1))
+        mapper.parseObject("""{"name":"b"}""", Pet::class.java)
+        assertEquals(2, mapper.cacheStats().size)
+        val missCount = mapper.cacheStats().missCount
+        mapper.parseObject("""{"name":"b"}""", Pet::class.java)
+        assertEquals(missCount, mapper.cacheStats().missCount)
+
+        val disabled = JSONMapper(JSONConfig.builder().cacheCapacity(0).build())
+        disabled.parseObject("""{"name":"a"}""", Person::class.java)
+        assertEquals(0, disabled.cacheStats().size)
+    }
+
+    class PrivateFields {
+        private var secret: String? = "s"
+        var visible: Int = 1
+        fun secret() = secret
+    }
+
+    @Test
+    fun `test bytecode accessors`() {
+        val config = JSONConfig.builder().bytecodeAccessors(true).build()
+        assertTrue(config.isBytecodeAccessors)
+        assertFalse(JSONConfig.DEFAULT.isBytecodeAccessors)
+        val mapper = JSONMapper(config)
+        val moduleId = AfterburnerModule().typeId
+        assertTrue(mapper.objectMapper.registeredModuleIds.contains(moduleId))
+        assertFalse(JSONMapper(JSONConfig.DEFAULT).objectMapper.registeredModuleIds.contains(moduleId))
+        val person = Person("a", 3)
+        assertEquals(JSON.toJSONString(person), mapper.toJSONString(person))
+        assertEquals(person, mapper.parseObject(mapper.toJSONString(person), Person::class.java))
+        // 无法优化的属性退回反射访问
+        val privateFields = mapper.parseObject("""{"visible":2}""", PrivateFields::class.java)
+        assertEquals(2, privateFields.visible)
+        assertEquals("s", privateFields.secret())
+    }
+
+    @Test
+    fun `test lightweight exceptions`() {
+        val mapper = JSONMapper(JSONConfig.builder().lightweightExceptions(true).build())
+        val located = assertFailsWith(JSONException::class) { mapper.parseObject("""{"a":}""") }
+        assertEquals(0, located.stackTrace.size)
+        assertNull(located.cause)
+        assertEquals(1, located.line)
+        assertFailsWith(JSONException::class) { mapper.parseArray("""[1,]""", Int::class.java) }
+
+        val plain = JSONMapper(JSONConfig.builder().lightweightExceptions(true).errorLocation(false).build())
+        val error = assertFailsWith(JSONException::class) { plain.parseObject("""{"a":}""", Person::class.java) }
+        assertEquals(-1, error.line)
+        assertFalse(error.message!!.contains("line"))
+
+        val full = assertFailsWith(JSONException::class) { JSON.parseObject("""{"a":}""") }
+        assertTrue(full.stackTrace.isNotEmpty())
+        assertNotNull(full.cause)
+    }
+
+    @Test
+    fun `test lightweight exceptions from streaming and conversion`() {
+        val mapper = JSONMapper(JSONConfig.builder().lightweightExceptions(true).build())
+        mapper.streamArray(ByteArrayInputStream("[1,x]".toByteArray()), Int::class.java).use { stream ->
+            val error = assertFailsWith(JSONException::class) { stream.collect(Collectors.toList()) }
+            assertEquals(0, error.stackTrace.size)
+            assertEquals(1, error.line)
+        }
+
+        val file = Files.createTempFile("lines", ".ndjson")
+        try {
+            Files.write(file, "{\"age\":1}\n{\"age\":}\n".toByteArray())
+            mapper.parseLines(file, Person::class.java, 2).use { stream ->
+                val error = assertFailsWith(JSONException::class) { stream.collect(Collectors.toList()) }
+                assertEquals(0, error.stackTrace.size)
+                assertNull(error.cause)
+            }
+        } finally {
+            Files.delete(file)
+        }
+
+        val converted = assertFailsWith(JSONException::class) { mapper.toJavaObject(mapOf("a" to 1), Int::class.java) }
+        assertEquals(0, converted.stackTrace.size)
+    }
+
+    @Test
+    fun `test parseLines keeps at most a window of chunks`() {
+        val file = Files.createTempFile("lines", ".ndjson")
+        try {
+            Files.write(file, (0 until 100000).joinToString("\n") { """{"age":$it}""" }.toByteArray())
+            for (ordered in listOf(true, false)) {
+                val reader = JSON.getDefault().objectMapper.readerFor(Person::class.java)
+                val iterator = ParallelLineIterator<Person>(
+                    FileChannel.open(file, StandardOpenOption.READ), reader, 2, ordered) { JSONException(it) }
+                var count = 0
+                iterator.use {
+                    while (iterator.hasNext()) {
+                        iterator.next()
+                        count++
+                        assertTrue(iterator.retainedChunks() <= 4, "retained ${iterator.retainedChunks()} chunks")
+                    }
+                }
+                assertEquals(100000, count)
+            }
+        } finally {
+            Files.delete(file)
+        }
+    }
+
+    @Test
+    fun `test system properties only apply to the default configuration`() {
+        System.setProperty(JSONConfig.LIGHTWEIGHT_EXCEPTIONS_PROPERTY, "true")
+        System.setProperty(JSONConfig.BYTECODE_ACCESSORS_PROPERTY, "true")
+        try {
+            val config = JSONConfig.builder().build()
+            assertFalse(config.isLightweightExceptions)
+            assertFalse(config.isBytecodeAccessors)
+        } finally {
+            System.clearProperty(JSONConfig.LIGHTWEIGHT_EXCEPTIONS_PROPERTY)
+            System.clearProperty(JSONConfig.BYTECODE_ACCESSORS_PROPERTY)
+        }
+    }
+
+    @Test
+    fun `test invalid config`() {
+        assertFailsWith(IllegalArgumentException::class) { JSONMapper(null) }
+        assertFailsWith(IllegalArgumentException::class) { JSONConfig.builder().cacheCapacity(-1) }
+        assertFailsWith(IllegalArgumentException::class) { JSONConfig.builder().serializationInclusion(null) }
+    }
+}
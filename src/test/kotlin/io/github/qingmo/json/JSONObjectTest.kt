@@ -24,11 +24,13 @@
 package io.github.qingmo.json
 
 import io.github.qingmo.json.datas.TestClass
+import io.github.qingmo.json.datas.TestDate
 import io.github.qingmo.json.exception.JSONException
 import org.junit.jupiter.api.Assertions.*
 import org.junit.jupiter.api.Test
 import java.math.BigDecimal
 import java.math.BigInteger
+import java.util.Collections
 import kotlin.test.assertFails
 import kotlin.test.assertFailsWith
 
@@ -51,6 +53,17 @@ internal class JSONObjectTest {
 
     }
 
+    @Test
+    fun `test getJSONArray copies a nested plain list`() {
+        val jsonObject = JSONObject(mutableMapOf<String, Any>("a" to mutableListOf(1, 2)))
+        val array = jsonObject.getJSONArray("a")
+        array.add(3)
+        assertEquals(listOf(1, 2), jsonObject["a"])
+        assertNotSame(array, jsonObject.getJSONArray("a"))
+        val readOnly = JSONObject(Collections.unmodifiableMap(mapOf<String, Any>("a" to listOf(1))))
+        assertEquals(listOf(1), readOnly.getJSONArray("a"))
+    }
+
     @Test
     fun `common test type`() {
         val jsonObject = JSONObject()
@@ -117,6 +130,20 @@ internal class JSONObjectTest {
         assertEquals("haha", jsonObject.getObject("test", TestClass::class.java)!!.foo)
     }
 
+    @Test
+    fun `test toJavaObject and getObject with date values`() {
+        val date = java.text.SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2021-07-01 12:01:00")
+        val jsonObject = JSON.parseObject("""{"haha":"2021-07-01 12:01:00"}""")
+        assertEquals(date, jsonObject.toJavaObject(TestDate::class.java).haha)
+        jsonObject["haha"] = date
+        assertEquals(date, jsonObject.toJavaObject(TestDate::class.java).haha)
+        val wrapper = JSON.parseObject("""{"nested":{"haha":"2021-07-01"}}""")
+        assertEquals(
+            java.text.SimpleDateFormat("yyyy-MM-dd").parse("2021-07-01"),
+            wrapper.getObject("nested", TestDate::class.java)!!.haha
+        )
+    }
+
     @Test
     fun `test get Type and it's value`() {
         val jsonObject = JSONObject()
@@ -178,6 +205,10 @@ internal class JSONObjectTest {
         assertEquals(0.0, jsonObject.getDoubleValue("b"))
         assertEquals(3.0, jsonObject.getDoubleValue("c"))
         assertEquals(5.1, jsonObject.getDoubleValue("e"))
+        assertEquals(0, jsonObject.getIntValue("g"))
+        assertEquals(0L, jsonObject.getLongValue("g"))
+        assertEquals(0.0, jsonObject.getDoubleValue("g"))
+        assertEquals(false, jsonObject.getBooleanValue("g"))
 
         assertFails { jsonObject.getBigDecimal("a") }
         assertFails { jsonObject.getBigDecimal("b") }
@@ -196,4 +227,14 @@ internal class JSONObjectTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    fun `test ordered constructor`() {
+        val ordered = JSONObject(true)
+        (20 downTo 1).forEach { ordered["k$it"] = it }
+        assertEquals((20 downTo 1).map { "k$it" }, ordered.keys.toList())
+        assertEquals(10, ordered.getIntValue("k10"))
+        val sized = JSONObject(32)
+        (1..32).forEach { sized["k$it"] = it }
+        assertEquals(32, sized.size)
+    }
+}
@@ -28,12 +28,19 @@ import com.fasterxml.jackson.annotation.JsonUnwrapped
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize
 import com.fasterxml.jackson.databind.node.IntNode
 import com.fasterxml.jackson.databind.node.NullNode
+import io.github.qingmo.json.datas.TestClass
 import io.github.qingmo.json.exception.JSONException
+import io.github.qingmo.json.internal.JsonPath
 import org.junit.jupiter.api.Test
+import java.io.ByteArrayOutputStream
 import java.lang.reflect.Constructor
 import java.lang.reflect.InvocationTargetException
+import java.nio.ByteBuffer
+import java.nio.file.Files
 import java.time.LocalTime
 import java.util.*
+import java.util.concurrent.Executors
+import java.util.stream.Collectors
 import kotlin.test.*
 
 
@@ -98,6 +105,164 @@ class JSONTest {
         )
     }
 
+    @Test
+    fun `test byte and stream entry points`() {
+        val bytes = JSON.toJSONBytes(mapOf("foo" to "巴"))
+        assertEquals("""{"foo":"巴"}""", String(bytes, Charsets.UTF_8))
+        assertEquals("巴", JSON.parseObject(bytes, TestClass::class.java).foo)
+        val padded = "xx".toByteArray() + bytes + "yy".toByteArray()
+        assertEquals("巴", JSON.parseObject(padded, 2, bytes.size, TestClass::class.java).foo)
+        assertEquals(
+            "巴",
+            JSON.parseObject(bytes.inputStream(), TestClass::class.java).foo
+        )
+        assertEquals(listOf(1, 2), JSON.parseArray("[1,2]".byteInputStream(), Int::class.java))
+        assertFailsWith(JSONException::class) {
+            JSON.parseObject("haha".toByteArray(), TestClass::class.java)
+        }
+        assertFailsWith(JSONException::class) {
+            JSON.parseObject(null as ByteArray?, TestClass::class.java)
+        }
+
+        var closed = false
+        val out = object : ByteArrayOutputStream() {
+            override fun close() {
+                closed = true
+            }
+        }
+        JSON.writeJSONString(out, listOf(1, 2))
+        assertEquals("[1,2]", out.toString("UTF-8"))
+        assertFalse(closed)
+    }
+
+    @Test
+    fun `test streamArray`() {
+        val json = """[{"foo":"a"},null,{"foo":"b"}]"""
+        JSON.streamArray(json.byteInputStream(), TestClass::class.java).use { stream ->
+            assertEquals(listOf("a", null, "b"), stream.map { it?.foo }.collect(Collectors.toList()))
+        }
+        assertEquals(0, JSON.streamArray("[]".byteInputStream(), Int::class.java).count())
+        assertFailsWith(JSONException::class) {
+            JSON.streamArray("{}".byteInputStream(), Int::class.java)
+        }
+        assertFailsWith(JSONException::class) {
+            JSON.streamArray("[1,".byteInputStream(), Int::class.java).count()
+        }
+    }
+
+    @Test
+    fun `test parseLines`() {
+        val file = Files.createTempFile("lines", ".ndjson")
+        try {
+            // 足够多的行, 保证文件会被切成多个分块
+            val lines = (0 until 20000).map { """{"foo":"v$it"}""" }
+            Files.write(file, (lines.joinToString("\n") + "\r\n\n").toByteArray())
+            JSON.parseLines(file, TestClass::class.java, 3).use { stream ->
+                assertEquals((0 until 20000).map { "v$it" }, stream.map { it.foo }.collect(Collectors.toList()))
+            }
+            JSON.parseLines(file, JSONObject::class.java, 2, false).use { stream ->
+                assertEquals(20000, stream.map { it.getString("foo") }.distinct().count())
+            }
+            JSON.parseLines(file, JSONObject::class.java, 2).use { stream ->
+                assertEquals("v0", stream.findFirst().get().getString("foo"))
+            }
+
+            Files.write(file, ByteArray(0))
+            assertEquals(0, JSON.parseLines(file, JSONObject::class.java, 1).count())
+            Files.write(file, "1\n\n2\nnull\n3".toByteArray())
+            assertEquals(listOf(1, 2, null, 3), JSON.parseLines(file, Int::class.javaObjectType, 1).collect(Collectors.toList()))
+
+            Files.write(file, "{\"foo\":\"a\"}\n{\"foo\":".toByteArray())
+            assertFailsWith(JSONException::class) { JSON.parseLines(file, JSONObject::class.java, 2).count() }
+        } finally {
+            Files.delete(file)
+        }
+        assertFailsWith(JSONException::class) { JSON.parseLines(file, JSONObject::class.java, 1) }
+        assertFailsWith(IllegalArgumentException::class) { JSON.parseLines(file, JSONObject::class.java, 0) }
+    }
+
+    @Test
+    fun `test parse from path`() {
+        val file = Files.createTempFile("document", ".json")
+        try {
+            Files.write(file, """ {"foo":"a","list":[1,2]} """.toByteArray())
+            assertEquals(listOf(1, 2), JSON.parseObject(file, JSONObject::class.java).getJSONArray("list"))
+            val parsed = JSON.parse(file)
+            assertTrue(parsed is JSONObject)
+            assertEquals(JSON.parse(""" {"foo":"a","list":[1,2]} """), parsed)
+
+            Files.write(file, "\uFEFF\n [1,{\"a\":\"中文\"}]".toByteArray())
+            val array = JSON.parse(file) as JSONArray
+            assertEquals("中文", array.getJSONObject(1).getString("a"))
+            Files.write(file, byteArrayOf(0xBF.toByte(), '{'.toByte(), '}'.toByte()))
+            assertFailsWith(JSONException::class) { JSON.parse(file) }
+            Files.write(file, " \uFEFF[1]".toByteArray())
+            assertFailsWith(JSONException::class) { JSON.parse(file) }
+            Files.write(file, """{"foo":"b"}""".toByteArray())
+            assertEquals("b", JSON.parseObject(file, TestClass::class.java).foo)
+            Files.write(file, "12".toByteArray())
+            assertEquals(IntNode(12), JSON.parse(file))
+            assertEquals(12, JSON.parseObject(file, Int::class.java))
+
+            Files.write(file, """{"foo":""".toByteArray())
+            assertFailsWith(JSONException::class) { JSON.parse(file) }
+            assertFailsWith(JSONException::class) { JSON.parseObject(file, JSONObject::class.java) }
+        } finally {
+            Files.delete(file)
+        }
+        assertFailsWith(JSONException::class) { JSON.parse(file) }
+    }
+
+    @Test
+    fun `test async decoder`() {
+        val elements = JSON.newAsyncArrayDecoder(TestClass::class.java)
+        val body = """[{"foo":"a"},{"foo":"中文"},null]""".toByteArray()
+        assertTrue(elements.feed(ByteBuffer.wrap(body, 0, 8)).isEmpty())
+        // 多字节字符被切在两个分块之间
+        val direct = ByteBuffer.allocateDirect(body.size)
+        direct.put(body, 8, 12).flip()
+        assertEquals(listOf("a"), elements.feed(direct).map { it.foo })
+        assertFalse(direct.hasRemaining())
+        val rest = elements.feed(ByteBuffer.wrap(body, 20, body.size - 20))
+        assertEquals(listOf("中文", null), rest.map { it?.foo })
+        assertTrue(elements.endOfInput().isEmpty())
+        assertFailsWith(JSONException::class) { elements.feed(ByteBuffer.wrap(body)) }
+
+        val roots = JSON.newAsyncDecoder(JSONObject::class.java)
+        val values = roots.feed(ByteBuffer.wrap("""{"a":1} {"a":{"b":[2]}}""".toByteArray())).toMutableList()
+        values += roots.endOfInput()
+        assertEquals(2, values.size)
+        assertEquals(1, values[0].getIntValue("a"))
+        assertEquals(2, values[1].getJSONObject("a").getJSONArray("b").getIntValue(0))
+
+        val number = JSON.newAsyncDecoder(Long::class.javaObjectType)
+        assertTrue(number.feed("12".toByteArray(), 0, 2).isEmpty())
+        assertEquals(listOf(12L), number.endOfInput())
+
+        val truncated = JSON.newAsyncDecoder(JSONObject::class.java)
+        truncated.feed(ByteBuffer.wrap("""{"a":""".toByteArray()))
+        assertFailsWith(JSONException::class) { truncated.endOfInput() }
+        assertFailsWith(JSONException::class) {
+            JSON.newAsyncArrayDecoder(JSONObject::class.java).feed(ByteBuffer.wrap("{}".toByteArray()))
+        }
+        assertFailsWith(JSONException::class) {
+            JSON.newAsyncDecoder(JSONObject::class.java).feed(ByteBuffer.wrap("{]".toByteArray()))
+        }
+    }
+
+    @Test
+    fun `test codec cache keeps hot types resident`() {
+        JSON.parseObject("""{"foo":"a"}""", TestClass::class.java)
+        val before = JSON.cacheStats()
+        repeat(3) {
+            JSON.parseObject("""{"foo":"a"}""", TestClass::class.java)
+            JSON.parseArray("[1]", Int::class.java)
+        }
+        val after = JSON.cacheStats()
+        assertTrue(after.hitCount - before.hitCount >= 5)
+        assertTrue(after.size > 0)
+    }
+
     @Test
     fun `test isJson`() {
         assertTrue(JSON.isJson("""{}"""))
@@ -108,6 +273,27 @@ class JSONTest {
         assertFalse(JSON.isJson(null))
     }
 
+    @Test
+    fun `test isValid`() {
+        assertTrue(JSON.isValid("""{"a":[1,{"b":"c"}]}"""))
+        assertTrue(JSON.isValid(""" [1, 2] """))
+        assertTrue(JSON.isValid("""1"""))
+        assertTrue(JSON.isValid(""""text""""))
+        assertFalse(JSON.isValid("""{oops}"""))
+        assertFalse(JSON.isValid("""[1,]"""))
+        assertFalse(JSON.isValid("""{} {}"""))
+        assertFalse(JSON.isValid("""{"a":"\x"}"""))
+        assertFalse(JSON.isValid("""   """))
+        assertFalse(JSON.isValid(null))
+    }
+
+    @Test
+    fun `test parse with leading whitespace`() {
+        assertTrue(JSON.parse(" \n {\"a\":1} ") is JSONObject)
+        assertTrue(JSON.parse("\t[1]") is JSONArray)
+        assertFailsWith(JSONException::class) { JSON.parse("{oops}") }
+    }
+
     @Test
     fun `test isJsonObj`() {
         assertTrue(JSON.isJsonObj("""{}"""))
@@ -258,6 +444,184 @@ class JSONTest {
 
     }
 
+    @Test
+    fun `test parseLazyObject`() {
+        val json = """ {"traceId":"t-\u0031","userId":12345678901,"score":1.5,"ok":true,"none":null,
+            |"nested":{"a":[1,{"b":"c"}]},"list":[1,2],"traceId":"t-2"} """.trimMargin()
+        val lazy = JSON.parseLazyObject(json)
+        assertEquals("t-2", lazy.getString("traceId"))
+        assertEquals(12345678901L, lazy.getLong("userId"))
+        assertEquals(1.5, lazy.getDouble("score"))
+        assertEquals(true, lazy.getBoolean("ok"))
+        assertTrue(lazy.containsKey("none"))
+        assertNull(lazy["none"])
+        assertNull(lazy["missing"])
+        assertEquals(listOf("traceId", "userId", "score", "ok", "none", "nested", "list"), lazy.keys.toList())
+        val nested = lazy.getJSONObject("nested")
+        assertSame(nested, lazy.getJSONObject("nested"))
+        assertEquals("c", nested.getJSONArray("a").getJSONObject(1).getString("b"))
+        assertEquals(2, lazy.getJSONArray("list").getIntValue(1))
+        assertEquals(JSON.parseObject(json), lazy)
+        assertEquals(JSON.parseObject(json).toJSONString().length, lazy.toJSONString().length)
+        assertNull(JSON.parseLazyObject("null"))
+    }
+
+    @Test
+    fun `test parseLazyObject concurrent reads`() {
+        val json = (0 until 64).joinToString(",", "{", "}") { """"k$it":{"v":[$it,null]}""" }
+        repeat(20) {
+            val lazy = JSON.parseLazyObject(json)
+            val pool = Executors.newFixedThreadPool(4)
+            try {
+                val reads = (0 until 4).map {
+                    pool.submit<List<Any?>> { (0 until 64).map { i -> lazy.getJSONObject("k$i") } }
+                }.map { it.get() }
+                // 所有线程看到同一个解码结果
+                for (i in 0 until 64) {
+                    val first = reads[0][i] as JSONObject
+                    reads.forEach { assertSame(first, it[i]) }
+                    assertEquals(listOf(i, null), first.getJSONArray("v"))
+                }
+            } finally {
+                pool.shutdown()
+            }
+        }
+    }
+
+    @Test
+    fun `test parseLazyObject mutation`() {
+        val lazy = JSON.parseLazyObject("""{"a":1,"b":{"c":2},"d":3}""")
+        lazy["e"] = 4
+        lazy.remove("a")
+        assertEquals(listOf("b", "d", "e"), lazy.keys.toList())
+        assertEquals(2, lazy.getJSONObject("b").getIntValue("c"))
+        val iterated = JSON.parseLazyObject("""{"a":1,"b":2,"c":3}""")
+        val iterator = iterated.entries.iterator()
+        while (iterator.hasNext()) {
+            val entry = iterator.next()
+            if (entry.key == "b") {
+                iterator.remove()
+            } else {
+                entry.setValue((entry.value as Int) * 10)
+            }
+        }
+        assertEquals(mapOf("a" to 10, "c" to 30), iterated)
+    }
+
+    @Test
+    fun `test parseLazyArray`() {
+        val lazy = JSON.parseLazyArray("""[{"a":1}, [true, "x"], 3, null]""")
+        assertEquals(4, lazy.size)
+        assertEquals(1, lazy.getJSONObject(0).getIntValue("a"))
+        assertEquals("x", lazy.getJSONArray(1).getString(1))
+        assertEquals(3, lazy.getIntValue(2))
+        assertNull(lazy[3])
+        assertFailsWith(IndexOutOfBoundsException::class) { lazy[4] }
+        lazy.add("y")
+        lazy.removeAt(0)
+        assertEquals(4, lazy.size)
+        assertEquals("y", lazy.getString(3))
+        assertEquals(0, JSON.parseLazyArray("[]").size)
+    }
+
+    @Test
+    fun `test parseLazy with invalid argument`() {
+        assertFailsWith(JSONException::class) { JSON.parseLazyObject("""{"a":1""") }
+        assertFailsWith(JSONException::class) { JSON.parseLazyObject("""[1]""") }
+        assertFailsWith(JSONException::class) { JSON.parseLazyArray("""{"a":1}""") }
+        assertFailsWith(JSONException::class) { JSON.parseLazyArray("") }
+    }
+
+    @Test
+    fun `test extract`() {
+        val json = """{"skip":{"deep":[1,[2,{"x":3}]]},"order":{"id":123456789012,"paid":true,"rate":0.5,
+            |"items":[{"sku":"a"},{"sku":"b"},{"sku":"c"},{"sku":"d","qty":"7"}],"note":null},"tail":"""".trimMargin()
+        assertEquals("d", JSON.extract(json, "$.order.items[3].sku"))
+        assertEquals("d", JSON.extractString(json.toByteArray(), "$['order'][\"items\"][3].sku"))
+        assertEquals(123456789012L, JSON.extractLong(json, "$.order.id"))
+        assertEquals(7, JSON.extractInteger(json, "$.order.items[3].qty"))
+        assertEquals(7L, JSON.extractLong(json.toByteArray(), "$.order.items[3].qty"))
+        assertEquals(0.5, JSON.extractDouble(json, "$.order.rate"))
+        assertEquals(true, JSON.extractBoolean(json, "$.order.paid"))
+        assertEquals(JSONObject(mapOf("sku" to "a")), JSON.extract(json, "$.order.items[0]"))
+        assertEquals(4, (JSON.extract(json, "$.order.items") as JSONArray).size)
+        assertEquals("b", JSON.extract(json, "$.order.items[1]", JSONObject::class.java).getString("sku"))
+        assertEquals(listOf("c"), JSON.extract(json.toByteArray(), "$.order.items[2]", Map::class.java).values.toList())
+        // 找到值后停止解析, 不会读到末尾不完整的内容
+        assertNull(JSON.extract(json, "$.order.note"))
+        assertNull(JSON.extract(json, "$.order.note", String::class.java))
+        assertNull(JSON.extract(json, "$.order.items[4]"))
+        assertNull(JSON.extract(json, "$.order.id.value"))
+        assertNull(JSON.extractLong(json, "$.order[0]"))
+        assertEquals(JSON.parseObject("""{"a":[1]}"""), JSON.extract("""{"a":[1]}""", "$"))
+    }
+
+    @Test
+    fun `test compiled paths stay cached after a burst of one-off paths`() {
+        val hot = JsonPath.compile("$.hot")
+        for (i in 0 until 5000) {
+            JsonPath.compile("$.once[$i]")
+            if (i % 100 == 0) {
+                assertSame(hot, JsonPath.compile("$.hot"))
+            }
+        }
+        assertSame(hot, JsonPath.compile("$.hot"))
+        assertSame(JsonPath.compile("$.late"), JsonPath.compile("$.late"))
+    }
+
+    @Test
+    fun `test extract takes the first duplicate key`() {
+        val json = """{"a":{"b":1},"a":{"b":2}}"""
+        assertEquals(1, JSON.extract(json, "$.a.b"))
+        assertEquals(2, JSON.parseObject(json).getJSONObject("a").getIntValue("b"))
+        assertEquals(JSONObject(mapOf("b" to 1)), JSON.extract(json, "$.a"))
+    }
+
+    @Test
+    fun `test extract with invalid argument`() {
+        assertFailsWith(JSONException::class) { JSON.extract("""{"a":""", "$.a") }
+        assertFailsWith(JSONException::class) { JSON.extract("""{"a":1,"b":}""", "$.b") }
+        for (path in listOf("", "a", "$.", "$..a", "$[", "$[x]", "$['a'", "$[-1]", "$.a b[")) {
+            assertFailsWith(JSONException::class, path) { JSON.extract("""{"a":1}""", path) }
+        }
+        assertFailsWith(NumberFormatException::class) { JSON.extractLong("""{"a":"x"}""", "$.a") }
+    }
+
+    @Test
+    fun `test tryParseObject`() {
+        val ok = JSON.tryParseObject("""{"name":"a","age":1}""", Person::class.java)
+        assertTrue(ok.isSuccess)
+        assertNull(ok.error)
+        assertEquals("a", ok.value.name)
+        assertEquals(1, JSON.tryParseObject("""{"a":1}""").value.getIntValue("a"))
+
+        val failed = JSON.tryParseObject("""{"name":""")
+        assertFalse(failed.isSuccess)
+        assertNull(failed.value)
+        assertEquals(0, failed.error.stackTrace.size)
+        val fallback = Person()
+        assertSame(fallback, JSON.tryParseObject("x", Person::class.java).orElse(fallback))
+        assertFalse(JSON.tryParseObject(null).isSuccess)
+        assertTrue(failed.toString().startsWith("ParseResult{error="))
+    }
+
+    @Test
+    fun `test parse primitive arrays`() {
+        assertEquals(listOf(1, 2, 0, -3), JSON.parseIntArray("""[1,"2",null,-3]""").toList())
+        assertEquals(listOf(7), JSON.parseIntArray("[7]".toByteArray()).toList())
+        assertEquals(listOf(4000000000L, -1L), JSON.parseLongArray("[4000000000,-1]").toList())
+        assertEquals(listOf(1L), JSON.parseLongArray("[1]".toByteArray()).toList())
+        assertEquals(listOf(1.5, 2.0), JSON.parseDoubleArray("[1.5,2]").toList())
+        assertEquals(listOf(0.25), JSON.parseDoubleArray(" [0.25] ".toByteArray()).toList())
+        assertEquals(0, JSON.parseIntArray("[]").size)
+        assertNull(JSON.parseIntArray("null"))
+        assertFailsWith(JSONException::class) { JSON.parseIntArray("""["x"]""") }
+        assertFailsWith(JSONException::class) { JSON.parseLongArray("[1,") }
+        assertEquals("[1,2,3]", JSON.toJSONString(intArrayOf(1, 2, 3)))
+        assertEquals("[4000000000]", JSON.toJSONString(longArrayOf(4000000000L)))
+        assertEquals("[1.5]", JSON.toJSONString(doubleArrayOf(1.5)))
+    }
+
     @JsonDeserialize
     class UnwrappedIsFalseBean {
 
@@ -149,4 +149,21 @@ internal class MultiDateDeserializerTest {
         assertEquals(5, calendar.get(Calendar.DAY_OF_MONTH))
         assertEquals(18, calendar.get(Calendar.HOUR_OF_DAY))
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `test known formats match the general parsers`() {
+        val standard = java.text.SimpleDateFormat("yyyy-MM-dd HH:mm:ss")
+        val dates = JSON.parseArray(
+            """["2021-07-01 12:01:00","20210701T120100","2021-07-01T12:01:00.123Z","2021-07-01T12:01:00+08:00",
+                |"2021-02-30","2021-07-01 12:01:00 "]""".trimMargin(),
+            Date::class.java
+        )
+        assertEquals(standard.parse("2021-07-01 12:01:00"), dates[0])
+        assertEquals(standard.parse("2021-07-01 12:01:00"), dates[1])
+        assertEquals(1625140860123L, dates[2].time)
+        assertEquals(1625112060000L, dates[3].time)
+        // lenient fallback keeps rolling invalid days over
+        assertEquals(standard.parse("2021-03-02 00:00:00"), dates[4])
+        assertEquals(standard.parse("2021-07-01 12:01:00"), dates[5])
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json
+
+import io.github.qingmo.json.internal.NumericList
+import org.junit.jupiter.api.Test
+import java.util.*
+import kotlin.test.*
+
+class NumericListTest {
+
+    @Test
+    fun `test behaves like a list across modes`() {
+        val random = Random(1)
+        repeat(200) { round ->
+            val numeric = NumericList(random.nextInt(3))
+            val expected = ArrayList<Any?>()
+            val kind = round % 3
+            repeat(100) {
+                val value: Any? = when (if (random.nextInt(50) == 0) 3 else kind) {
+                    0 -> random.nextInt(100)
+                    1 -> random.nextInt(100).toLong()
+                    2 -> random.nextInt(100) / 4.0
+                    else -> if (random.nextBoolean()) null else "s"
+                }
+                when (random.nextInt(6)) {
+                    0, 1 -> assertEquals(expected.add(value), numeric.add(value))
+                    2 -> {
+                        val index = random.nextInt(expected.size + 1)
+                        expected.add(index, value)
+                        numeric.add(index, value)
+                    }
+                    3 -> if (expected.isNotEmpty()) {
+                        val index = random.nextInt(expected.size)
+                        assertEquals(expected.removeAt(index), numeric.removeAt(index))
+                    }
+                    4 -> if (expected.isNotEmpty()) {
+                        val index = random.nextInt(expected.size)
+                        assertEquals(expected.set(index, value), numeric.set(index, value))
+                    }
+                    else -> if (expected.size > 2) {
+                        expected.subList(0, 2).clear()
+                        numeric.subList(0, 2).clear()
+                    }
+                }
+                assertEquals(expected, numeric)
+                expected.forEachIndexed { i, e -> assertEquals(e?.javaClass, numeric[i]?.javaClass) }
+            }
+            assertEquals(expected.hashCode(), numeric.hashCode())
+            assertEquals(JSON.toJSONString(expected), JSON.toJSONString(numeric))
+        }
+    }
+
+    @Test
+    fun `test primitive reads`() {
+        val ints = NumericList()
+        ints.addAll(listOf(1, -2, 3))
+        assertEquals(-2, ints.intValue(1))
+        assertEquals(-2L, ints.longValue(1))
+        assertEquals(3.0, ints.doubleValue(2))
+        assertEquals(listOf(1, -2, 3), ints.toIntArray().toList())
+        val doubles = NumericList(listOf(1.5, -2.75))
+        assertEquals(1, doubles.intValue(0))
+        assertEquals(-2L, doubles.longValue(1))
+        assertEquals(listOf(1.5, -2.75), doubles.toDoubleArray().toList())
+        // 混入其他类型后回退为对象存储, 读取结果保持一致
+        doubles.add("4")
+        assertEquals(4, doubles.intValue(2))
+        assertEquals(listOf(1.5, -2.75, "4"), doubles)
+        assertFailsWith(IndexOutOfBoundsException::class) { ints.intValue(3) }
+        assertFailsWith(IndexOutOfBoundsException::class) { ints[-1] }
+        assertFailsWith(IndexOutOfBoundsException::class) { NumericList().longValue(0) }
+        assertFailsWith(IllegalArgumentException::class) { NumericList(-1) }
+        assertEquals("[]", JSON.toJSONString(NumericList()))
+    }
+
+    @Test
+    fun `test JSONArray storage`() {
+        val data = JSON.parseArray("[1,2,3000000000,4.5]")
+        assertEquals(3000000000L, data.getLongValue(2))
+        assertEquals(4, data.getIntValue(3))
+        val ints = JSON.parseArray("[1,2,3]")
+        assertEquals(listOf(1, 2, 3), ints.toIntArray().toList())
+        assertEquals("[1,2,3]", ints.toJSONString())
+        val built = JSONArray()
+        built.add(4000000000L)
+        built.add(5L)
+        assertEquals(5, built.getIntValue(1))
+        assertEquals("[4000000000,5]", built.toJSONString())
+        built.add(JSONObject())
+        assertEquals("[4000000000,5,{}]", built.toJSONString())
+        assertEquals(listOf(1, 2, 3), JSONArray(listOf(1, 2, 3)).toIntArray().toList())
+    }
+}
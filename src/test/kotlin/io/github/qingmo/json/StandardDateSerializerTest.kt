@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 qingmo(eagleqingluo@gmail.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.qingmo.json
+
+import com.fasterxml.jackson.annotation.JsonFormat
+import org.junit.jupiter.api.Test
+import java.text.SimpleDateFormat
+import java.util.*
+import kotlin.test.assertEquals
+
+internal class StandardDateSerializerTest {
+
+    @Test
+    fun `test java Date serialize matches SimpleDateFormat`() {
+        val simpleDateFormat = SimpleDateFormat("yyyy-MM-dd HH:mm:ss")
+        listOf(0L, 1625140860123L, 1625140860999L, -1L, -62135769600000L, 253402300800000L).forEach {
+            val date = Date(it)
+            assertEquals("\"${simpleDateFormat.format(date)}\"", JSON.toJSONString(date))
+            // second call is served from the cache
+            assertEquals("\"${simpleDateFormat.format(date)}\"", JSON.toJSONString(date))
+        }
+    }
+
+    @Test
+    fun `test java Date serialize keeps property format`() {
+        val data = FormattedDate()
+        data.time = Date(1625140860123L)
+        assertEquals("{\"time\":1625140860123}", JSON.toJSONString(data))
+    }
+
+    class FormattedDate {
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+        var time: Date? = null
+    }
+}
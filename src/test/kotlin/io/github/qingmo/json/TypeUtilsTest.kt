@@ -396,4 +396,87 @@ internal class TypeUtilsTest {
         assertEquals(0, TypeUtils.longValue(BigDecimal.ZERO))
         assertEquals(1, TypeUtils.longValue(BigDecimal.ONE))
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `test primitive casts`() {
+        assertEquals(7, TypeUtils.castToIntValue(null, 7))
+        assertEquals(7, TypeUtils.castToIntValue("", 7))
+        assertEquals(7, TypeUtils.castToIntValue("null", 7))
+        assertEquals(3, TypeUtils.castToIntValue(3L, 0))
+        assertEquals(1234, TypeUtils.castToIntValue("1,234.00", 0))
+        assertEquals(1, TypeUtils.castToIntValue(true, 0))
+        assertFailsWith(NumberFormatException::class) { TypeUtils.castToIntValue("1.5", 0) }
+        assertFailsWith(JSONException::class) { TypeUtils.castToIntValue(Pair(1, 2), 0) }
+
+        assertEquals(-1L, TypeUtils.castToLongValue(null, -1L))
+        assertEquals(12345678901L, TypeUtils.castToLongValue("12,345,678,901", 0L))
+        assertEquals(5L, TypeUtils.castToLongValue(BigDecimal("5.9"), 0L))
+        assertEquals(0L, TypeUtils.castToLongValue(false, 1L))
+        assertFailsWith(JSONException::class) { TypeUtils.castToLongValue(Pair(1, 2), 0L) }
+
+        assertEquals(1.5, TypeUtils.castToDoubleValue(null, 1.5))
+        assertEquals(1234.5, TypeUtils.castToDoubleValue("1,234.5", 0.0))
+        assertEquals(2.0, TypeUtils.castToDoubleValue(2, 0.0))
+        assertFailsWith(JSONException::class) { TypeUtils.castToDoubleValue(Pair(1, 2), 0.0) }
+
+        assertEquals(2.5f, TypeUtils.castToFloatValue("2.5", 0f))
+        assertEquals(1f, TypeUtils.castToFloatValue(null, 1f))
+        assertEquals(1f, TypeUtils.castToFloatValue(true, 0f))
+        assertFailsWith(JSONException::class) { TypeUtils.castToFloatValue(Pair(1, 2), 0f) }
+
+        assertEquals(24.toByte(), TypeUtils.castToByteValue(BigDecimal("24.01"), 0))
+        assertEquals(3.toByte(), TypeUtils.castToByteValue("3", 0))
+        assertEquals(9.toByte(), TypeUtils.castToByteValue(null, 9))
+        assertFailsWith(JSONException::class) { TypeUtils.castToByteValue(Pair(1, 2), 0) }
+
+        assertEquals(3.toShort(), TypeUtils.castToShortValue("3", 0))
+        assertEquals(1.toShort(), TypeUtils.castToShortValue(true, 0))
+        assertEquals(9.toShort(), TypeUtils.castToShortValue("", 9))
+        assertFailsWith(JSONException::class) { TypeUtils.castToShortValue(Pair(1, 2), 0) }
+
+        assertTrue(TypeUtils.castToBooleanValue(null, true))
+        assertTrue(TypeUtils.castToBooleanValue("Y", false))
+        assertFalse(TypeUtils.castToBooleanValue(0, true))
+    }
+
+    @Test
+    fun `test single pass numeric parsing`() {
+        assertEquals(Int.MAX_VALUE, TypeUtils.castToInt("2,147,483,647.000"))
+        assertEquals(Int.MIN_VALUE, TypeUtils.castToIntValue("-2147483648", 0))
+        val overflow = assertFailsWith(NumberFormatException::class) { TypeUtils.castToInt("2,147,483,648") }
+        assertEquals("For input string: \"2147483648\"", overflow.message)
+        assertEquals(Long.MIN_VALUE, TypeUtils.castToLong("-9,223,372,036,854,775,808"))
+        assertFailsWith(NumberFormatException::class) { TypeUtils.castToLongValue("9223372036854775808", 0L) }
+        assertFailsWith(NumberFormatException::class) { TypeUtils.castToLong("1.0") }
+        assertEquals(0.1, TypeUtils.castToDouble("0.1"))
+        assertEquals(1234567.125, TypeUtils.castToDoubleValue("1,234,567.125", 0.0))
+        assertEquals(1.0E23, TypeUtils.castToDouble("1e23"))
+        assertEquals(9007199254740993.0, TypeUtils.castToDouble("9007199254740993"))
+        assertEquals(-0.0, TypeUtils.castToDouble("-0"))
+        assertEquals(Double.NaN, TypeUtils.castToDouble("NaN"))
+        assertEquals(0.3f, TypeUtils.castToFloatValue("0.3", 0f))
+        assertEquals(1.17549435E-38f, TypeUtils.castToFloat("1.17549435E-38"))
+        assertFailsWith(NumberFormatException::class) { TypeUtils.castToDouble("1e") }
+    }
+
+    @Test
+    fun `test try casts fall back to default`() {
+        assertEquals(-1, TypeUtils.tryCastToIntValue("abc", -1))
+        assertEquals(-1, TypeUtils.tryCastToIntValue("2147483648", -1))
+        assertEquals(1234, TypeUtils.tryCastToIntValue(",1,234.00", -1))
+        assertEquals(-1, TypeUtils.tryCastToIntValue(Pair(1, 2), -1))
+        assertEquals(Long.MIN_VALUE, TypeUtils.tryCastToLongValue("-9,223,372,036,854,775,808", 0L))
+        assertEquals(7L, TypeUtils.tryCastToLongValue("9223372036854775808", 7L))
+        assertEquals(2.5, TypeUtils.tryCastToDoubleValue(" 2.5d ", 0.0))
+        assertEquals(8.0, TypeUtils.tryCastToDoubleValue("0x1p3", 0.0))
+        assertEquals(Double.NEGATIVE_INFINITY, TypeUtils.tryCastToDoubleValue("-Infinity", 0.0))
+        assertEquals(1.5, TypeUtils.tryCastToDoubleValue("1e", 1.5))
+        assertEquals(1.5f, TypeUtils.tryCastToFloatValue("x1", 1.5f))
+        assertEquals(9.toByte(), TypeUtils.tryCastToByteValue(BigDecimal("127.5"), 9))
+        assertEquals(127.toByte(), TypeUtils.tryCastToByteValue(BigDecimal("127.4"), 9))
+        assertEquals(9.toByte(), TypeUtils.tryCastToByteValue("1,0", 9))
+        assertEquals(9.toShort(), TypeUtils.tryCastToShortValue("32768", 9))
+        assertTrue(TypeUtils.tryCastToBooleanValue("maybe", true))
+        assertFalse(TypeUtils.tryCastToBooleanValue("N", true))
+    }
+}
@@ -23,8 +23,11 @@
  */
 package io.github.qingmo.json.exception
 
+import com.fasterxml.jackson.core.JsonParseException
+import com.fasterxml.jackson.databind.ObjectMapper
 import org.junit.jupiter.api.Assertions.*
 import org.junit.jupiter.api.Test
+import kotlin.test.assertFailsWith
 
 internal class JSONExceptionTest {
 
@@ -38,4 +41,24 @@ internal class JSONExceptionTest {
         assertNotNull(second.cause)
         assertEquals("gaga", second.cause?.message)
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `test lightweight`() {
+        val cause = assertFailsWith(JsonParseException::class) { ObjectMapper().readTree("{\n\"a\":}") }
+        val located = JSONException.lightweight(cause, true)
+        assertEquals(0, located.stackTrace.size)
+        assertNull(located.cause)
+        assertEquals(cause.message, located.message)
+        assertEquals(2, located.line)
+        assertTrue(located.column > 0)
+
+        val plain = JSONException.lightweight(cause, false)
+        assertEquals(cause.originalMessage, plain.message)
+        assertEquals(-1, plain.line)
+        assertEquals(-1, plain.column)
+
+        assertEquals("gaga", JSONException.lightweight(IllegalArgumentException("gaga"), true).message)
+        assertEquals(-1, JSONException("haha").line)
+        assertTrue(JSONException("haha").stackTrace.isNotEmpty())
+    }
+}